@@ -0,0 +1,63 @@
+import CustomExceptions.RoomShareException;
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.OverdueList;
+import Operations.TaskList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures listing 50000 tasks to a terminal, with the output thrown away.
+ * Run with: gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ListBenchmark {
+    private static final int TASKS = 50000;
+    private PrintStream original;
+    private TaskList taskList;
+    private OverdueList overdueList;
+
+    @Setup(Level.Trial)
+    public void setUp() throws RoomShareException {
+        original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream(), true));
+        ArrayList<Task> tasks = new ArrayList<>();
+        long later = System.currentTimeMillis() + 24 * 60 * 60 * 1000L;
+        for (int i = 0; i < TASKS; i++) {
+            Assignment task = new Assignment("task " + i, new Date(later + i * 60000L));
+            task.setDone(i % 3 == 0);
+            tasks.add(task);
+        }
+        taskList = new TaskList(tasks);
+        overdueList = new OverdueList(new ArrayList<>());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(original);
+    }
+
+    /**
+     * Lists the pending and completed tasks, as done after each command.
+     */
+    @Benchmark
+    public void listTasks() throws RoomShareException {
+        taskList.list(overdueList);
+        taskList.showCompleted();
+    }
+}
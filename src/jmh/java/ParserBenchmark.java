@@ -0,0 +1,49 @@
+import CustomExceptions.RoomShareException;
+import Operations.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a million dates as they are written in the save file.
+ * Run with: gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    private static final int DATES = 1000000;
+    private String[] dates;
+    private Parser parser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        dates = new String[DATES];
+        for (int i = 0; i < DATES; i++) {
+            dates[i] = String.format("%02d/%02d/%04d %02d:%02d", 1 + random.nextInt(28), 1 + random.nextInt(12),
+                    2019 + random.nextInt(10), random.nextInt(24), random.nextInt(60));
+        }
+        parser = new Parser();
+    }
+
+    /**
+     * Reads every date the way the save file is loaded.
+     */
+    @Benchmark
+    public long formatStoredDates() throws RoomShareException {
+        long total = 0;
+        for (String date : dates) {
+            total += parser.formatDateDDMMYY(date).getTime();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,123 @@
+import CustomExceptions.RoomShareException;
+import Enums.RecurrenceScheduleType;
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.OverdueList;
+import Operations.RecurHandler;
+import Operations.RecurrenceScheduler;
+import Operations.TaskList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the recurrence check over 100k recurring tasks.
+ * Run with: gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecurrenceBenchmark {
+    private static final int TASKS = 100000;
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+    private static final RecurrenceScheduleType[] TYPES = {
+        RecurrenceScheduleType.day, RecurrenceScheduleType.week, RecurrenceScheduleType.month
+    };
+
+    /**
+     * Creates recurring tasks spread over the given number of days from a start time.
+     */
+    private static ArrayList<Task> createTasks(long start, int days) {
+        Random random = new Random(42);
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            long date = start + random.nextInt(days) * DAY + random.nextInt(24 * 60) * 60 * 1000L;
+            Assignment assignment = new Assignment("chore " + i, new Date(date));
+            assignment.setRecurrenceSchedule(TYPES[i % TYPES.length]);
+            tasks.add(assignment);
+        }
+        return tasks;
+    }
+
+    /**
+     * 100k recurring tasks which all fell due some time in the last 90 days.
+     */
+    @State(Scope.Benchmark)
+    public static class DueTasks {
+        private ArrayList<Task> tasks;
+        private long[] dates;
+        private RecurHandler recurHandler;
+        private Instant now;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            now = Instant.now();
+            tasks = createTasks(now.toEpochMilli() - 90 * DAY, 90);
+            dates = new long[TASKS];
+            for (int i = 0; i < TASKS; i++) {
+                dates[i] = tasks.get(i).getDate().getTime();
+            }
+            new OverdueList(new ArrayList<>());
+            recurHandler = new RecurHandler(new TaskList(tasks));
+            recurHandler.setRecordingMissed(false);
+        }
+
+        @Setup(Level.Invocation)
+        public void resetDates() {
+            for (int i = 0; i < TASKS; i++) {
+                tasks.get(i).setDate(new Date(dates[i]));
+            }
+        }
+    }
+
+    /**
+     * 100k recurring tasks tracked by a running scheduler, none of which are due yet.
+     */
+    @State(Scope.Benchmark)
+    public static class ScheduledTasks {
+        private RecurrenceScheduler scheduler;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            ArrayList<Task> tasks = createTasks(System.currentTimeMillis() + DAY, 30);
+            RecurHandler recurHandler = new RecurHandler(new TaskList(tasks));
+            scheduler = new RecurrenceScheduler(recurHandler, () -> { });
+            scheduler.start(tasks);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            scheduler.stop();
+        }
+    }
+
+    /**
+     * Rolls every task over to its first occurrence after now, catching up on up to 90 missed days.
+     */
+    @Benchmark
+    public int rollOverAllDue(DueTasks state) throws RoomShareException {
+        for (Task task : state.tasks) {
+            state.recurHandler.rollOver(task, state.now);
+        }
+        return state.tasks.size();
+    }
+
+    /**
+     * The check made before every command when nothing is due, which only looks at the top of the heap.
+     */
+    @Benchmark
+    public boolean checkDueWithNothingDue(ScheduledTasks state) {
+        return state.scheduler.checkDue();
+    }
+}
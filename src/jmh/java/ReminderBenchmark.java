@@ -0,0 +1,98 @@
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.ReminderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures setting and cancelling 100k pending reminders, all served by a single timer thread,
+ * and loading 100k saved reminders at startup.
+ * Run with: gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReminderBenchmark {
+    private static final int REMINDERS = 100000;
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+    private static final Runnable NOTHING = () -> { };
+
+    /**
+     * 100k tasks with reminder times spread over the next 30 days, and a fresh reminder service.
+     */
+    @State(Scope.Benchmark)
+    public static class Reminders {
+        private ArrayList<Task> tasks;
+        private long[] times;
+        private ReminderService reminderService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            long now = System.currentTimeMillis();
+            tasks = new ArrayList<>();
+            times = new long[REMINDERS];
+            for (int i = 0; i < REMINDERS; i++) {
+                Assignment assignment = new Assignment("chore " + i, new Date(now));
+                times[i] = now + DAY + (long) (random.nextDouble() * 30 * DAY);
+                assignment.setReminder(new Date(times[i]));
+                tasks.add(assignment);
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void startService() {
+            reminderService = new ReminderService(task -> { });
+        }
+
+        @TearDown(Level.Invocation)
+        public void stopService() {
+            reminderService.stop();
+        }
+    }
+
+    /**
+     * Sets 100k pending reminders.
+     */
+    @Benchmark
+    public int scheduleAll(Reminders state) {
+        for (int i = 0; i < REMINDERS; i++) {
+            state.reminderService.schedule(state.tasks.get(i), state.times[i], NOTHING);
+        }
+        return state.reminderService.size();
+    }
+
+    /**
+     * Sets 100k pending reminders, then cancels all of them as if their tasks were deleted.
+     */
+    @Benchmark
+    public int scheduleAndCancelAll(Reminders state) {
+        for (int i = 0; i < REMINDERS; i++) {
+            state.reminderService.schedule(state.tasks.get(i), state.times[i], NOTHING);
+        }
+        for (Task task : state.tasks) {
+            state.reminderService.cancel(task);
+        }
+        return state.reminderService.size();
+    }
+
+    /**
+     * Loads the saved reminders of 100k tasks into the heap in one pass, as done when RoomShare starts.
+     */
+    @Benchmark
+    public int startAll(Reminders state) {
+        state.reminderService.start(state.tasks);
+        return state.reminderService.size();
+    }
+}
@@ -0,0 +1,53 @@
+import CustomExceptions.DuplicateException;
+import CustomExceptions.RoomShareException;
+import CustomExceptions.TimeClashException;
+import Model_Classes.Task;
+import Operations.OverdueList;
+import Operations.TaskCreator;
+import Operations.TaskList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many tasks can be created from the user's input each second.
+ * Run with: gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TaskCreatorBenchmark {
+    private static final String[] INPUTS = {
+        "#assignment# -finish report &22/12/2099 18:00& *high* @bob@ %week%",
+        "#meeting# -plan trip &23/12/2099 10:00& ^2 hours^ *medium* @harry@",
+        "#assignment# -pay rent (buy stamps, post letter) &24/12/2099 09:00& !30 minutes!",
+        "#leave# @harry@ -holiday &25/12/2099 00:00& &26/12/2099 00:00&",
+        "#meeting# -water the plants &27/12/2099 08:00& %every 2 days until 01/01/2100%"
+    };
+    private TaskCreator taskCreator;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        new TaskList(new ArrayList<>());
+        new OverdueList(new ArrayList<>());
+        taskCreator = new TaskCreator();
+    }
+
+    /**
+     * Creates a task from one of a few typical inputs, checking it against an empty task list.
+     */
+    @Benchmark
+    public Task create() throws RoomShareException, DuplicateException, TimeClashException {
+        next = (next + 1) % INPUTS.length;
+        return taskCreator.create(INPUTS[next]);
+    }
+}
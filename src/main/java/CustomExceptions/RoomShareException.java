@@ -37,6 +37,8 @@ public class RoomShareException extends Exception {
     private static final String ASSIGNEE_SET_TO_EVERYONE = "\tThere might have been an error when setting the assignee\n"
             + "\tIt could be an error in your entry of the assignee field\n"
             + "\tHowever, if you had intended to set the assignee to 'everyone', then ignore this message\n";
+    private static final String WRONG_RECURRENCE_FORMAT_TEXT = "\tPlease check your recurrence! "
+            + "Eg. %every 2 weeks on tue,thu until 30/06/2020%\n";
     public static final String INVALID_COMMAND_TEXT = "\tInvalid command! Type \"help\" to find out more about available commands\n";
 
     private String message;
@@ -161,6 +163,10 @@ public class RoomShareException extends Exception {
             message = INVALID_COMMAND_TEXT;
             break;
 
+        case wrongRecurrenceFormat:
+            message = WRONG_RECURRENCE_FORMAT_TEXT;
+            break;
+
         default:
             message = ANOMALY_TEXT;
             break;
@@ -28,5 +28,6 @@ invalidCommand,
 emptyIndex,
 noSubtask,
 invalidDateError,
-assigneeSetToEveyone
+assigneeSetToEveyone,
+wrongRecurrenceFormat
 }
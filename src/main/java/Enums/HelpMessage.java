@@ -17,7 +17,15 @@ public enum HelpMessage {
     REMOVE_OVERDUE(Constants.HELP_REMOVE_OVERDUE),
     BYE(Constants.HELP_BYE),
     OVERDUE(Constants.HELP_OVERDUE),
-    RESCHEDULE(Constants.HELP_RESCHEDULE);
+    RESCHEDULE(Constants.HELP_RESCHEDULE),
+    CLASHES(Constants.HELP_CLASHES),
+    FINDSLOT(Constants.HELP_FINDSLOT),
+    AWAY(Constants.HELP_AWAY),
+    IMPORTFILE(Constants.HELP_IMPORTFILE),
+    DEDUPE(Constants.HELP_DEDUPE),
+    MISSED(Constants.HELP_MISSED),
+    AGING(Constants.HELP_AGING),
+    COMPLETE(Constants.HELP_COMPLETE);
 
 
     private String message;
@@ -37,6 +45,8 @@ public enum HelpMessage {
                 "Use \"*______\" to specify the priority of a task. Example: *high\n\n" +
                 "Use \"^______\" to specify the duration of a task. Example: ^2 hours\n\n" +
                 "Use \"@______\" to specify the responsible person of a task. Example: @Harry\n\n" +
+                "Use \"%______%\" to specify how a task recurs. Example: %every 2 weeks on tue,thu until 30/06/2020%\n" +
+                "It can also take a number of times, or the months to recur in. Example: %month in jan,jul for 4 times%\n\n" +
                 "Now that you've familiar with the syntax. Here's an example on how to add an assignment:\n" +
                 "add #assignment &12/2/2020 15:00 -finish report\n\n" +
                 "Or you can key in the information in any different order and write date in short form:\n" +
@@ -46,14 +56,24 @@ public enum HelpMessage {
                 "restore\t\t\t\tsnooze\t\t\t\tdone\n" +
                 "list\t\t\t\tfind\t\t\t\tsort\n" +
                 "show\t\t\t\toverdue\t\t\t\tsubtask\n" +
-                "removeoverdue\t\treschedule\t\t\tbye\n" +
-                "bye\n" +
+                "removeoverdue\t\treschedule\t\t\tclashes\n" +
+                "findslot\t\t\taway\t\t\t\timportfile\n" +
+                "dedupe\t\t\t\tmissed\t\t\t\taging\n" +
+                "complete\t\t\tbye\n" +
+                "Commands can be shortened to any start only one command has. Example: del 3\n" +
+                "To carry out several commands together, separate them with ';'.\n" +
+                "If any of them fails, none of them are carried out. Example: done 3; priority 5 high\n" +
                 "To know more about the commands, type help \"command\". Example: help add";
         public static final String HELP_DELETE = "This command deletes the tasks at the specified order number.\n" +
                 "Example: delete 1\n" +
                 "         delete 3 - 5";
         public static final String HELP_LIST = "This command shows the list of task that are currently in the Task list\n" +
-                "Example: list";
+                "Example: list\n" +
+                "To only show a page of the list, type in 'list page' and the page number. Example: list page 2\n" +
+                "Then type in 'list next' or 'list prev' to move between pages, 'list goto' and a task number\n" +
+                "to go to the page with that task, and 'list size' and a number to set the tasks on each page\n" +
+                "Example: list size 50\n" +
+                "To show the whole list again, type in 'list all'";
         public static final String HELP_DONE = "This command marks the specified task as completed. Example:\n" +
                 "Example: done 1 \n" +
                 "         done 2 - 4";
@@ -92,5 +112,38 @@ public enum HelpMessage {
         public static final String HELP_RESCHEDULE = "This command reschedules an overdue task by index to a later date by inputting a new date\n" +
                 "Example reschedule 1 &20/11/2019 10:00&\n" +
                 "This will reschedule the tasks specified by their index to the new date";
+        public static final String HELP_CLASHES = "This command lists every pair of meetings with clashing timings\n" +
+                "Example: clashes\n" +
+                "To group the clashes by the people involved, type in 'clashes assignee'\n" +
+                "Example: clashes assignee";
+        public static final String HELP_FINDSLOT = "This command finds the next free time slots for a meeting of the specified duration\n" +
+                "Example: findslot 2 hours\n" +
+                "Three slots are shown, unless the number of slots is given after the duration\n" +
+                "Example: findslot 2 hours 5\n" +
+                "Use \"@______\" to only consider the schedule of one person, and \"&______\" to search from a later time\n" +
+                "Example: findslot 30 minutes @Harry &next monday 09:00";
+        public static final String HELP_AWAY = "This command shows the people who are on leave at the specified time\n" +
+                "Example: away tomorrow 10:00";
+        public static final String HELP_IMPORTFILE = "This command adds all the tasks in a file into the task list\n" +
+                "The file can either contain one add command on each line, or be a data file saved by RoomShare\n" +
+                "Duplicates are skipped, and a summary of duplicates and time clashes is shown at the end\n" +
+                "Example: importfile chores.txt";
+        public static final String HELP_DEDUPE = "This command lists tasks with similar descriptions, such as 'buy milk' and 'Buy the milk!'\n" +
+                "Example: dedupe\n" +
+                "To be warned about similar tasks whenever you add a task, type in 'dedupe on'. To stop, type in 'dedupe off'\n" +
+                "Example: dedupe on";
+        public static final String HELP_MISSED = "When recurring tasks move on to their next occurrence, the occurrences that passed without being done\n" +
+                "are recorded in the overdue list. To stop recording them, type in 'missed off'. To record them again, type in 'missed on'\n" +
+                "Example: missed off";
+        public static final String HELP_AGING = "To have tasks move up in priority as their deadlines come near, type in 'aging on'.\n" +
+                "Tasks become at least medium priority 3 days before their deadline, and high priority 1 day before.\n" +
+                "The priority you set for each task is kept, and is used again after typing in 'aging off'\n" +
+                "Example: aging on";
+        public static final String HELP_COMPLETE = "This command suggests ways to finish the last word of a command\n" +
+                "The first word is completed from the commands, words starting with '#' from the task types,\n" +
+                "words starting with '@' from the people tasks are assigned to,\n" +
+                "and other words from the descriptions of tasks\n" +
+                "Example: complete add #assignment -fin\n" +
+                "Task types can also be shortened. Example: add #meet -plan trip &22/12/2019 18:00";
     }
 }
@@ -0,0 +1,5 @@
+package Enums;
+
+public enum ListType {
+    tasks, overdue
+}
@@ -0,0 +1,5 @@
+package Enums;
+
+public enum RenderType {
+    none, header, listBefore, listAfter
+}
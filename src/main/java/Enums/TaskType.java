@@ -23,5 +23,13 @@ reschedule,
 completed,
 show,
 removeoverdue,
-reopen
+reopen,
+clashes,
+findslot,
+away,
+importfile,
+dedupe,
+missed,
+aging,
+complete
 }
@@ -43,6 +43,19 @@ public class Assignment extends Task {
         this.subTasks = new ArrayList<>(Arrays.asList(subTasks.trim().split(",")));
     }
 
+    @Override
+    public Assignment copy() {
+        Assignment copy = (Assignment) super.copy();
+        copy.subTasks = new ArrayList<>(subTasks);
+        return copy;
+    }
+
+    @Override
+    public void restore(Task copy) {
+        super.restore(copy);
+        subTasks = ((Assignment) copy).subTasks;
+    }
+
     /**
      * Returns the ArrayList containing the Assignment's subtasks.
      * @return ArrayList of subtasks as Strings
@@ -65,11 +78,11 @@ public class Assignment extends Task {
     }
 
     /**
-     * Returns the full description including of the assignment.
+     * Builds the full description including of the assignment.
      * @return A string indicating the task type, description, and when it should be done by.
      */
     @Override
-    public String toString() {
-        return "[A]" + super.toString() + " (by: " + super.getDate() + ")";
+    String render() {
+        return "[A]" + super.render() + " (by: " + super.getDate() + ")";
     }
 }
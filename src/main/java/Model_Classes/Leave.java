@@ -26,6 +26,28 @@ public class Leave extends Task {
         this.to = to;
     }
 
+    /**
+     * Returns a copy of the leave, in which the start date is still the same object as the date of the task
+     * if it was so in the leave.
+     * @return copy of the leave
+     */
+    @Override
+    public Leave copy() {
+        Leave copy = (Leave) super.copy();
+        copy.from = from == getDate() ? copy.getDate() : new Date(from.getTime());
+        copy.to = new Date(to.getTime());
+        return copy;
+    }
+
+    @Override
+    public void restore(Task copy) {
+        super.restore(copy);
+        from = ((Leave) copy).from;
+        to = ((Leave) copy).to;
+        user = ((Leave) copy).user;
+        changed();
+    }
+
     /**
      * gets the start date of the leave.
      * @return the start date and time of the leave
@@ -40,6 +62,7 @@ public class Leave extends Task {
      */
     public void setStartDate(Date date) {
         this.from = date;
+        changed();
     }
 
     /**
@@ -56,6 +79,7 @@ public class Leave extends Task {
      */
     public void setEndDate(Date date) {
         this.to = date;
+        changed();
     }
 
     /**
@@ -68,11 +92,11 @@ public class Leave extends Task {
     }
 
     /**
-     * returns the information of the leave being taken.
+     * builds the information of the leave being taken.
      * @return String with the information of the leave.
      */
     @Override
-    public String toString() {
+    String render() {
         return "[L] " + super.getDescription() + " (" + user + ")" + " (From: " + from + " To: " + to + ")";
     }
 
@@ -82,6 +106,7 @@ public class Leave extends Task {
      */
     public void setUser(String user) {
         this.user = user;
+        changed();
     }
 
 }
\ No newline at end of file
@@ -36,17 +36,25 @@ public class Meeting extends Task {
         this.timeUnit = unit;
     }
 
+    @Override
+    public void restore(Task copy) {
+        super.restore(copy);
+        duration = ((Meeting) copy).duration;
+        timeUnit = ((Meeting) copy).timeUnit;
+        changed();
+    }
+
     /**
-     * Returns a string that has the full description of the meeting including the occurrence time.
+     * Builds a string that has the full description of the meeting including the occurrence time.
      * @return A string indicating the task type, description and the occurrence of the task
      */
     @Override
-    public String toString() {
+    String render() {
         if (this.isFixedDuration()) {
-            return "[M]" + super.toString() + " (on: " + super.getDate()
+            return "[M]" + super.render() + " (on: " + super.getDate()
                     + ") (duration: " + duration + " " + timeUnit.toString() + ")";
         } else {
-            return "[M]" + super.toString() + " (on: " + super.getDate() + ")";
+            return "[M]" + super.render() + " (on: " + super.getDate() + ")";
         }
     }
 
@@ -67,6 +75,7 @@ public class Meeting extends Task {
     public void setDuration(int duration, TimeUnit timeUnit) {
         this.duration = duration;
         this.timeUnit = timeUnit;
+        changed();
     }
 
     /**
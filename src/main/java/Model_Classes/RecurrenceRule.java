@@ -0,0 +1,475 @@
+package Model_Classes;
+
+import CustomExceptions.RoomShareException;
+import Enums.ExceptionType;
+import Enums.RecurrenceScheduleType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Describes when a recurring task happens again, such as "every 2 weeks on tue,thu until 30/06/2020".
+ * A rule has a frequency, an interval, an optional set of weekdays and months, and an optional end date
+ * or number of occurrences. Sets of weekdays and months are kept as bitmasks, so working out the next
+ * occurrence, or how many occurrences fall in a period, takes a fixed number of steps per weekday
+ * instead of going through the days one by one.
+ * Occurrences are counted from the current date of the task, which is always the first occurrence,
+ * and all happen at the same time of day as it.
+ */
+public class RecurrenceRule {
+    private static final String[] WEEKDAYS = {"monday", "tuesday", "wednesday", "thursday", "friday",
+        "saturday", "sunday"};
+    private static final String[] MONTHS = {"january", "february", "march", "april", "may", "june", "july",
+        "august", "september", "october", "november", "december"};
+    private static final int ALL_WEEKDAYS = 0x7f;
+    private static final int ALL_MONTHS = 0xfff;
+    private static final int MAX_INTERVAL = 1000;
+    private static final int MAX_MONTH_SKIPS = 48;
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.ofPattern("dd/MM/uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter UNTIL_PARSE_FORMAT = DateTimeFormatter.ofPattern("d/M/uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private final RecurrenceScheduleType frequency;
+    private final int interval;
+    private final int weekdays;
+    private final int months;
+    private final LocalDate until;
+    private final int count;
+
+    /**
+     * Constructor for the RecurrenceRule class.
+     * @param frequency whether the task recurs by days, weeks or months
+     * @param interval number of days, weeks or months between occurrences
+     * @param weekdays bitmask of weekdays, with Monday as the lowest bit. 0 means every day for daily rules,
+     *                 and the weekday of the task for weekly rules
+     * @param months bitmask of the months occurrences may fall in, with January as the lowest bit
+     * @param until last date an occurrence may fall on, or null if there is none
+     * @param count number of occurrences left, including the current one, or 0 if there is no limit
+     */
+    public RecurrenceRule(RecurrenceScheduleType frequency, int interval, int weekdays, int months,
+                          LocalDate until, int count) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.weekdays = weekdays;
+        this.months = months;
+        this.until = until;
+        this.count = count;
+    }
+
+    /**
+     * Returns the rule for recurring every day, week or month.
+     * @param frequency whether the task recurs every day, week or month
+     * @return the recurrence rule, or null if the frequency is none
+     */
+    public static RecurrenceRule every(RecurrenceScheduleType frequency) {
+        if (frequency.equals(RecurrenceScheduleType.none)) {
+            return null;
+        }
+        return new RecurrenceRule(frequency, 1, 0, ALL_MONTHS, null, 0);
+    }
+
+    /**
+     * Reads a recurrence rule, such as "week", "every 2 weeks on tue,thu until 30/06/2020",
+     * "every day on mon,wed,fri in jan,feb" or "every month for 6 times".
+     * @param text recurrence rule to be read
+     * @return the recurrence rule, or null if the text is "none"
+     * @throws RoomShareException when the rule is not in the correct format
+     */
+    public static RecurrenceRule parse(String text) throws RoomShareException {
+        String[] tokens = text.trim().toLowerCase().split("[\\s,]+");
+        int index = 0;
+        if (tokens[index].equals("every")) {
+            index++;
+        }
+        try {
+            int interval = 1;
+            if (index < tokens.length && tokens[index].matches("\\d+")) {
+                interval = Integer.parseInt(tokens[index++]);
+            }
+            String unit = tokens[index++];
+            if (unit.endsWith("s")) {
+                unit = unit.substring(0, unit.length() - 1);
+            }
+            RecurrenceScheduleType frequency = RecurrenceScheduleType.valueOf(unit);
+            if (frequency.equals(RecurrenceScheduleType.none)) {
+                return null;
+            }
+            int weekdays = 0;
+            int months = ALL_MONTHS;
+            LocalDate until = null;
+            int count = 0;
+            while (index < tokens.length) {
+                String keyword = tokens[index++];
+                if (keyword.equals("on") && !frequency.equals(RecurrenceScheduleType.month)) {
+                    int start = index;
+                    while (index < tokens.length && (tokens[index].equals("and")
+                            || findName(WEEKDAYS, tokens[index]) != -1)) {
+                        if (!tokens[index].equals("and")) {
+                            weekdays |= 1 << findName(WEEKDAYS, tokens[index]);
+                        }
+                        index++;
+                    }
+                    if (index == start) {
+                        throw new RoomShareException(ExceptionType.wrongRecurrenceFormat);
+                    }
+                } else if (keyword.equals("in")) {
+                    int start = index;
+                    months = 0;
+                    while (index < tokens.length && (tokens[index].equals("and")
+                            || findName(MONTHS, tokens[index]) != -1)) {
+                        if (!tokens[index].equals("and")) {
+                            months |= 1 << findName(MONTHS, tokens[index]);
+                        }
+                        index++;
+                    }
+                    if (index == start) {
+                        throw new RoomShareException(ExceptionType.wrongRecurrenceFormat);
+                    }
+                } else if (keyword.equals("until")) {
+                    until = LocalDate.parse(tokens[index++], UNTIL_PARSE_FORMAT);
+                } else if (keyword.equals("for")) {
+                    count = Integer.parseInt(tokens[index++]);
+                    if (index < tokens.length && tokens[index].startsWith("time")) {
+                        index++;
+                    }
+                } else {
+                    throw new RoomShareException(ExceptionType.wrongRecurrenceFormat);
+                }
+            }
+            if (interval < 1 || interval > MAX_INTERVAL || count < 0 || months == 0) {
+                throw new RoomShareException(ExceptionType.wrongRecurrenceFormat);
+            }
+            return new RecurrenceRule(frequency, interval, weekdays, months, until, count);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new RoomShareException(ExceptionType.wrongRecurrenceFormat);
+        }
+    }
+
+    /**
+     * Returns the same rule with a different number of occurrences left.
+     * @param count number of occurrences left, including the current one, or 0 if there is no limit
+     * @return the new rule
+     */
+    public RecurrenceRule withCount(int count) {
+        return new RecurrenceRule(frequency, interval, weekdays, months, until, count);
+    }
+
+    public RecurrenceScheduleType getFrequency() {
+        return frequency;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the first occurrence strictly after a given time.
+     * @param anchor current date of the task, which is the first occurrence
+     * @param after time the occurrence must be after
+     * @return the occurrence, or null if the rule has no more occurrences after the time
+     */
+    public ZonedDateTime next(ZonedDateTime anchor, ZonedDateTime after) {
+        if (after.isBefore(anchor)) {
+            return anchor;
+        }
+        ZonedDateTime next;
+        if (frequency.equals(RecurrenceScheduleType.month)) {
+            next = nextMonthly(anchor, after);
+        } else {
+            LocalTime time = anchor.toLocalTime();
+            long start = after.toLocalDate().toEpochDay();
+            if (!atDay(anchor, start).isAfter(after)) {
+                start++;
+            }
+            long day = nextDay(anchor.toLocalDate().toEpochDay(), Math.max(start,
+                    anchor.toLocalDate().toEpochDay() + 1));
+            next = day == Long.MAX_VALUE ? null : LocalDate.ofEpochDay(day).atTime(time).atZone(anchor.getZone());
+        }
+        if (next == null || (until != null && next.toLocalDate().isAfter(until))) {
+            return null;
+        }
+        if (count > 0 && countBefore(anchor, next) >= count) {
+            return null;
+        }
+        return next;
+    }
+
+    /**
+     * Returns the number of occurrences from the first occurrence up to, but not including, a given time.
+     * @param anchor current date of the task, which is the first occurrence
+     * @param end time to count up to
+     * @return number of occurrences
+     */
+    public long countBefore(ZonedDateTime anchor, ZonedDateTime end) {
+        if (until != null) {
+            ZonedDateTime afterUntil = until.plusDays(1).atStartOfDay(anchor.getZone());
+            if (afterUntil.isBefore(end)) {
+                end = afterUntil;
+            }
+        }
+        if (!end.isAfter(anchor)) {
+            return 0;
+        }
+        long total;
+        if (frequency.equals(RecurrenceScheduleType.month)) {
+            total = 1 + countMonthly(anchor, end);
+        } else {
+            long anchorDay = anchor.toLocalDate().toEpochDay();
+            long endDay = end.toLocalDate().toEpochDay();
+            if (atDay(anchor, endDay).isBefore(end)) {
+                endDay++;
+            }
+            total = 1 + countDays(anchorDay, anchorDay + 1, endDay);
+        }
+        return count > 0 ? Math.min(total, count) : total;
+    }
+
+    /**
+     * Returns the occurrence time on a given day, at the time of day of the first occurrence.
+     */
+    private static ZonedDateTime atDay(ZonedDateTime anchor, long day) {
+        return LocalDate.ofEpochDay(day).atTime(anchor.toLocalTime()).atZone(anchor.getZone());
+    }
+
+    /**
+     * Returns the first occurrence of a monthly rule strictly after a given time.
+     */
+    private ZonedDateTime nextMonthly(ZonedDateTime anchor, ZonedDateTime after) {
+        long step = Math.max(0, ChronoUnit.MONTHS.between(anchor, after)) / interval * interval;
+        while (!anchor.plusMonths(step).isAfter(after) || step == 0) {
+            step += interval;
+        }
+        for (int i = 0; i < 12; i++) {
+            ZonedDateTime candidate = anchor.plusMonths(step);
+            if (isMonthAllowed(candidate.getMonthValue())) {
+                return candidate;
+            }
+            step += interval;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of occurrences of a monthly rule after the first occurrence and before a given time.
+     * The months occurrences fall in repeat every 12 steps, so whole cycles are counted at once.
+     */
+    private long countMonthly(ZonedDateTime anchor, ZonedDateTime end) {
+        long steps = ChronoUnit.MONTHS.between(anchor, end) / interval;
+        if (steps > 0 && !anchor.plusMonths(steps * interval).isBefore(end)) {
+            steps--;
+        } else if (anchor.plusMonths((steps + 1) * interval).isBefore(end)) {
+            // a month added to the end of a longer month is cut short, so it may still be before the end
+            steps++;
+        }
+        if (months == ALL_MONTHS) {
+            return steps;
+        }
+        int firstMonth = anchor.getMonthValue() - 1;
+        long perCycle = 0;
+        long remainder = 0;
+        for (int i = 1; i <= 12; i++) {
+            boolean isAllowed = (months >> ((firstMonth + i * interval) % 12) & 1) == 1;
+            if (isAllowed) {
+                perCycle++;
+                if (i <= steps % 12) {
+                    remainder++;
+                }
+            }
+        }
+        return steps / 12 * perCycle + remainder;
+    }
+
+    /**
+     * Returns the weekdays occurrences of a daily or weekly rule fall on.
+     */
+    private int getWeekdays(long anchorDay) {
+        if (weekdays != 0) {
+            return weekdays;
+        }
+        return frequency.equals(RecurrenceScheduleType.week) ? 1 << weekdayOf(anchorDay) : ALL_WEEKDAYS;
+    }
+
+    /**
+     * Returns the first day on or after a given day that a daily or weekly rule falls on, ignoring months.
+     * The days of a rule falling on one weekday form an arithmetic progression.
+     * @return the epoch day, or Long.MAX_VALUE if no day falls on the weekday
+     */
+    private long firstDay(long anchorDay, long from, int weekday) {
+        if (frequency.equals(RecurrenceScheduleType.week)) {
+            long weekStart = anchorDay - weekdayOf(anchorDay);
+            long week = Math.max(0, Math.floorDiv(from - weekStart - weekday + 6, 7));
+            week = (week + interval - 1) / interval * interval;
+            return weekStart + 7 * week + weekday;
+        }
+        long day = from + Math.floorMod(anchorDay - from, interval);
+        for (int i = 0; i < 7; i++) {
+            if (weekdayOf(day) == weekday) {
+                return day;
+            }
+            day += interval;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of days between two days of the same weekday that a daily or weekly rule falls on.
+     */
+    private long getStep() {
+        if (frequency.equals(RecurrenceScheduleType.week)) {
+            return 7L * interval;
+        }
+        return interval % 7 == 0 ? interval : 7L * interval;
+    }
+
+    /**
+     * Returns the first day on or after a given day that a daily or weekly rule falls on.
+     * If that day is in a month that is not allowed, the search moves on to the next allowed month.
+     * @return the epoch day, or Long.MAX_VALUE if there is none
+     */
+    private long nextDay(long anchorDay, long from) {
+        int mask = getWeekdays(anchorDay);
+        for (int skip = 0; skip < MAX_MONTH_SKIPS; skip++) {
+            long best = Long.MAX_VALUE;
+            for (int weekday = 0; weekday < 7; weekday++) {
+                if ((mask >> weekday & 1) == 1) {
+                    best = Math.min(best, firstDay(anchorDay, from, weekday));
+                }
+            }
+            if (best == Long.MAX_VALUE) {
+                return best;
+            }
+            LocalDate date = LocalDate.ofEpochDay(best);
+            if (isMonthAllowed(date.getMonthValue())) {
+                return best;
+            }
+            from = nextAllowedMonth(date).toEpochDay();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of days from one day up to, but not including, another that a daily or weekly rule
+     * falls on. Days in months that are not allowed are left out one month at a time.
+     */
+    private long countDays(long anchorDay, long from, long to) {
+        if (months == ALL_MONTHS) {
+            return countAllMonths(anchorDay, from, to);
+        }
+        long total = 0;
+        while (from < to) {
+            LocalDate date = LocalDate.ofEpochDay(from);
+            long monthEnd = Math.min(to, date.withDayOfMonth(1).plusMonths(1).toEpochDay());
+            if (isMonthAllowed(date.getMonthValue())) {
+                total += countAllMonths(anchorDay, from, monthEnd);
+            }
+            from = monthEnd;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of days from one day up to, but not including, another that a daily or weekly rule
+     * falls on, ignoring months.
+     */
+    private long countAllMonths(long anchorDay, long from, long to) {
+        int mask = getWeekdays(anchorDay);
+        long step = getStep();
+        long total = 0;
+        for (int weekday = 0; weekday < 7; weekday++) {
+            if ((mask >> weekday & 1) == 1) {
+                long first = firstDay(anchorDay, from, weekday);
+                if (first < to) {
+                    total += (to - 1 - first) / step + 1;
+                }
+            }
+        }
+        return total;
+    }
+
+    private boolean isMonthAllowed(int month) {
+        return (months >> (month - 1) & 1) == 1;
+    }
+
+    /**
+     * Returns the first day of the next allowed month after the month of a date.
+     */
+    private LocalDate nextAllowedMonth(LocalDate date) {
+        LocalDate monthStart = date.withDayOfMonth(1);
+        for (int i = 1; i <= 12; i++) {
+            if (isMonthAllowed(monthStart.plusMonths(i).getMonthValue())) {
+                return monthStart.plusMonths(i);
+            }
+        }
+        return monthStart.plusMonths(12);
+    }
+
+    /**
+     * Returns the weekday of an epoch day, with Monday as 0.
+     */
+    private static int weekdayOf(long day) {
+        return Math.floorMod(day + 3, 7);
+    }
+
+    /**
+     * Returns the index of the name a word is the start of, with at least 3 letters, such as "tue" or "tues".
+     */
+    private static int findName(String[] names, String word) {
+        if (word.length() < 3) {
+            return -1;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].startsWith(word)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Joins the short names of the set bits of a bitmask.
+     */
+    private static String joinNames(String[] names, int mask) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            if ((mask >> i & 1) == 1) {
+                if (builder.length() > 0) {
+                    builder.append(',');
+                }
+                builder.append(names[i], 0, 3);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the rule in the form it is read in, such as "week" or "2 weeks on tue,thu until 30/06/2020".
+     * @return the rule as a String
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        if (interval > 1) {
+            builder.append(interval).append(' ').append(frequency).append('s');
+        } else {
+            builder.append(frequency);
+        }
+        if (weekdays != 0) {
+            builder.append(" on ").append(joinNames(WEEKDAYS, weekdays));
+        }
+        if (months != ALL_MONTHS) {
+            builder.append(" in ").append(joinNames(MONTHS, months));
+        }
+        if (until != null) {
+            builder.append(" until ").append(until.format(UNTIL_FORMAT));
+        }
+        if (count > 0) {
+            builder.append(" for ").append(count).append(" times");
+        }
+        return builder.toString();
+    }
+}
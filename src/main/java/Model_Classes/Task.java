@@ -5,20 +5,29 @@ import Enums.ExceptionType;
 import Enums.Priority;
 import Enums.RecurrenceScheduleType;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Date;
 
 /**
  * Parent class for all other types of tasks.
+ * The text shown for a task is built once and kept until the task is changed through one of its setters,
+ * so listing, finding and saving tasks does not format the same dates again and again.
+ * The Date returned by getDate is therefore not to be changed directly.
  */
-public abstract class Task{
+public abstract class Task implements Cloneable {
     private String description;
     private boolean isDone;
     private Date date;
+    private ZoneId zone;
     private Priority priority;
     private String assignee;
     private RecurrenceScheduleType recurrenceSchedule;
+    private RecurrenceRule recurrenceRule;
     private boolean hasRecurring;
     private boolean isOverdue;
+    private Date reminder;
+    private String rendered;
 
     /**
      * Constructor for the task object. takes in the description of the task.
@@ -31,6 +40,7 @@ public abstract class Task{
         this.isOverdue = false;
         this.priority = Priority.low;
         this.date = date;
+        this.zone = ZoneId.systemDefault();
         this.assignee = "everyone";
         this.recurrenceSchedule = RecurrenceScheduleType.none;
     }
@@ -48,6 +58,7 @@ public abstract class Task{
      */
     public void setDescription(String description) {
         this.description = description;
+        changed();
     }
 
     /**
@@ -64,6 +75,34 @@ public abstract class Task{
      */
     public void setDate(Date date) {
         this.date = date;
+        changed();
+    }
+
+    /**
+     * Returns the time of the task in the time zone it was created in.
+     * Recurrence is worked out on this, so a task keeps its wall-clock time across daylight saving changes.
+     * @return time task is due or starts, with its time zone
+     */
+    public ZonedDateTime getDateTime() {
+        return ZonedDateTime.ofInstant(date.toInstant(), zone);
+    }
+
+    /**
+     * Sets the time of the task, together with its time zone.
+     * @param dateTime time task is due or starts, with its time zone
+     */
+    public void setDateTime(ZonedDateTime dateTime) {
+        this.date = Date.from(dateTime.toInstant());
+        this.zone = dateTime.getZone();
+        changed();
+    }
+
+    /**
+     * Returns the time zone of the task.
+     * @return time zone the task was created in
+     */
+    public ZoneId getZone() {
+        return zone;
     }
 
     /**
@@ -82,6 +121,7 @@ public abstract class Task{
             throw new RoomShareException(ExceptionType.leaveDone);
         }
         isDone = done;
+        changed();
     }
 
     public boolean getOverdue() {
@@ -106,6 +146,7 @@ public abstract class Task{
      */
     public void setAssignee(String assignee) {
         this.assignee = assignee;
+        changed();
     }
 
     /**
@@ -122,6 +163,7 @@ public abstract class Task{
      */
     public void setPriority(Priority p) {
         priority = p;
+        changed();
     }
 
     /**
@@ -137,12 +179,31 @@ public abstract class Task{
      * @param recurrenceSchedule the recurrence schedule that the task is set to
      */
     public void setRecurrenceSchedule(RecurrenceScheduleType recurrenceSchedule) {
-        this.recurrenceSchedule = recurrenceSchedule;
-        if (recurrenceSchedule.equals(RecurrenceScheduleType.none)) {
+        setRecurrenceRule(RecurrenceRule.every(recurrenceSchedule));
+    }
+
+    /**
+     * Gets the recurrence rule of the task.
+     * @return the recurrence rule of the task, or null if the task does not recur
+     */
+    public RecurrenceRule getRecurrenceRule() {
+        return recurrenceRule;
+    }
+
+    /**
+     * Sets the recurrence rule of the task, which also sets its recurrence schedule.
+     * @param recurrenceRule the recurrence rule that the task is set to, or null if the task does not recur
+     */
+    public void setRecurrenceRule(RecurrenceRule recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+        if (recurrenceRule == null) {
+            this.recurrenceSchedule = RecurrenceScheduleType.none;
             this.hasRecurring = false;
         } else {
+            this.recurrenceSchedule = recurrenceRule.getFrequency();
             this.hasRecurring = true;
         }
+        changed();
     }
 
     /**
@@ -153,12 +214,64 @@ public abstract class Task{
         return hasRecurring;
     }
 
+    /**
+     * Gets the time the user is to be reminded of the task.
+     * @return time of the reminder, or null if the task has no pending reminder
+     */
+    public Date getReminder() {
+        return reminder;
+    }
+
+    /**
+     * Sets the time the user is to be reminded of the task.
+     * @param reminder time of the reminder, or null to remove the reminder
+     */
+    public void setReminder(Date reminder) {
+        this.reminder = reminder;
+    }
+
+    /**
+     * Returns a copy of the task, which is not affected by later changes to the task.
+     * @return copy of the task
+     */
+    public Task copy() {
+        try {
+            Task copy = (Task) super.clone();
+            copy.date = date == null ? null : new Date(date.getTime());
+            copy.reminder = reminder == null ? null : new Date(reminder.getTime());
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Sets the task back to the state of a copy made earlier.
+     * The copy should not be used afterwards, as the task takes over its fields.
+     * @param copy copy of the task made by copy()
+     */
+    public void restore(Task copy) {
+        description = copy.description;
+        isDone = copy.isDone;
+        date = copy.date;
+        zone = copy.zone;
+        priority = copy.priority;
+        assignee = copy.assignee;
+        recurrenceSchedule = copy.recurrenceSchedule;
+        recurrenceRule = copy.recurrenceRule;
+        hasRecurring = copy.hasRecurring;
+        isOverdue = copy.isOverdue;
+        reminder = copy.reminder;
+        changed();
+    }
+
     /**
      * Snoozes the task by set amount of months.
      * @param amount number of months to snooze
      */
     public void snoozeMonth(int amount) {
-        this.date.setMonth(this.date.getMonth() + amount);;
+        this.date.setMonth(this.date.getMonth() + amount);
+        changed();
     }
 
     /**
@@ -166,7 +279,8 @@ public abstract class Task{
      * @param amount number of days to snooze
      */
     public void snoozeDay(int amount) {
-        this.date.setDate(this.date.getDate() + amount);;
+        this.date.setDate(this.date.getDate() + amount);
+        changed();
     }
 
     /**
@@ -175,6 +289,7 @@ public abstract class Task{
      */
     public void snoozeHour(int amount) {
         this.date.setHours(this.date.getHours() + amount);
+        changed();
     }
 
     /**
@@ -183,16 +298,36 @@ public abstract class Task{
      */
     public void snoozeMinute(int amount) {
         this.date.setMinutes(this.date.getMinutes() + amount);
+        changed();
     }
 
     /**
-     * Returns both the status icon and the description of the task.
-     * @return the information of the task, consisting of status icon, description and assignee
+     * Returns the text shown for the task, which is only built again after the task has changed.
+     * @return the information of the task
      */
+    @Override
     public String toString() {
+        if (rendered == null) {
+            rendered = render();
+        }
+        return rendered;
+    }
+
+    /**
+     * Marks the text shown for the task as out of date, to be built again the next time it is needed.
+     */
+    void changed() {
+        rendered = null;
+    }
+
+    /**
+     * Builds both the status icon and the description of the task.
+     * @return the information of the task, consisting of status icon, description and assignee
+     */
+    String render() {
         if (hasRecurring) {
             return " " + getDescription() + " " + "(" + getAssignee() + ") (every "
-                    + getRecurrenceSchedule().toString() + ")";
+                    + getRecurrenceRule().toString() + ")";
         }
         return " " + getDescription() + " " + "(" + getAssignee() + ")";
     }
@@ -0,0 +1,249 @@
+package Operations;
+
+import Model_Classes.Leave;
+import Model_Classes.Meeting;
+import Model_Classes.Task;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * An index of when each person is unavailable.
+ * For every assignee, the leaves of the assignee are merged with the fixed-duration meetings
+ * the assignee has to attend, so checking whether someone is free takes O(log n).
+ * The meetings of each assignee are kept as well, so the free slots in the schedule of a person can be found
+ * without going through the task list.
+ * The index is kept up to date as tasks are added, changed and removed, instead of being built again for each check.
+ */
+public class AvailabilityIndex {
+    private static final long MINUTE = 60 * 1000;
+    private HashMap<String, ScheduleIndex> busy = new HashMap<>();
+    private HashMap<String, ScheduleIndex> away = new HashMap<>();
+    private HashMap<String, ScheduleIndex> meetings = new HashMap<>();
+    private ScheduleIndex all = new ScheduleIndex();
+    private IdentityHashMap<Task, Booking> bookings = new IdentityHashMap<>();
+
+    /**
+     * The time interval a task was indexed with, so it can be unbooked after the task has changed.
+     */
+    private static class Booking {
+        private String assignee;
+        private long start;
+        private long end;
+        private boolean isLeave;
+        private boolean isBusy;
+
+        private Booking(String assignee, long start, long end, boolean isLeave, boolean isBusy) {
+            this.assignee = assignee;
+            this.start = start;
+            this.end = end;
+            this.isLeave = isLeave;
+            this.isBusy = isBusy;
+        }
+    }
+
+    /**
+     * Builds the availability index of every assignee from a list of tasks.
+     * @param tasks list of tasks to be indexed
+     * @param excluded task to be left out of the index, such as the task being checked, or null
+     * @return the availability index
+     */
+    public static AvailabilityIndex build(ArrayList<Task> tasks, Task excluded) {
+        AvailabilityIndex index = new AvailabilityIndex();
+        for (Task task : tasks) {
+            if (task != excluded) {
+                index.add(task);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds a task into the index, replacing the interval indexed for it before.
+     * Only meetings and leaves take up time, and of those, only leaves and fixed-duration meetings
+     * not assigned to everyone make someone unavailable.
+     * @param task task to be indexed
+     */
+    public void add(Task task) {
+        if (bookings.containsKey(task)) {
+            remove(task);
+        }
+        boolean isLeave = task instanceof Leave;
+        if (!isLeave && !(task instanceof Meeting)) {
+            return;
+        }
+        boolean isBusy = isLeave || (((Meeting) task).isFixedDuration() && !task.getAssignee().equals("everyone"));
+        Booking booking = new Booking(task.getAssignee(), ScheduleIndex.getStart(task),
+                ScheduleIndex.getEnd(task), isLeave, isBusy);
+        book(booking);
+        bookings.put(task, booking);
+    }
+
+    /**
+     * Removes a task from the index.
+     * @param task task to be removed
+     */
+    public void remove(Task task) {
+        Booking booking = bookings.remove(task);
+        if (booking != null) {
+            unbook(booking);
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    public void clear() {
+        busy.clear();
+        away.clear();
+        meetings.clear();
+        all = new ScheduleIndex();
+        bookings.clear();
+    }
+
+    /**
+     * Books the interval of a task for its assignee.
+     * @param booking the interval to be booked
+     */
+    private void book(Booking booking) {
+        all.book(booking.start, booking.end);
+        if (booking.isBusy) {
+            busy.computeIfAbsent(booking.assignee, k -> new ScheduleIndex()).book(booking.start, booking.end);
+        }
+        if (booking.isLeave) {
+            away.computeIfAbsent(booking.assignee, k -> new ScheduleIndex()).book(booking.start, booking.end);
+        } else {
+            meetings.computeIfAbsent(booking.assignee, k -> new ScheduleIndex()).book(booking.start, booking.end);
+        }
+    }
+
+    /**
+     * Unbooks the interval of a task for its assignee.
+     * @param booking the interval to be unbooked
+     */
+    private void unbook(Booking booking) {
+        all.unbook(booking.start, booking.end);
+        if (booking.isBusy) {
+            busy.get(booking.assignee).unbook(booking.start, booking.end);
+        }
+        if (booking.isLeave) {
+            away.get(booking.assignee).unbook(booking.start, booking.end);
+        } else {
+            meetings.get(booking.assignee).unbook(booking.start, booking.end);
+        }
+    }
+
+    /**
+     * Checks if a person is free for the whole of a time interval.
+     * @param assignee person to be checked
+     * @param start start time in milliseconds
+     * @param end end time in milliseconds
+     * @return true if the person is neither on leave nor in a meeting during the interval
+     */
+    public boolean isAvailable(String assignee, long start, long end) {
+        ScheduleIndex schedule = busy.get(assignee);
+        return schedule == null || schedule.isFree(start, end);
+    }
+
+    /**
+     * Finds the next free windows of a given length in the schedule of a person.
+     * The schedule of a person is made up of the meetings of the person, the meetings of everyone
+     * and the leaves of the person. The schedule of everyone is made up of every meeting and leave.
+     * @param assignee person whose schedule is searched, or "everyone"
+     * @param after time to start searching from
+     * @param duration length of each window in milliseconds
+     * @param count number of windows to be found
+     * @return list of windows, each as an array of its start and end date
+     */
+    public ArrayList<Date[]> findSlots(String assignee, Date after, long duration, int count) {
+        ArrayList<ScheduleIndex> schedules = new ArrayList<>();
+        if (assignee.equals("everyone")) {
+            schedules.add(all);
+        } else {
+            for (ScheduleIndex schedule : new ScheduleIndex[]{meetings.get(assignee), meetings.get("everyone"),
+                    away.get(assignee)}) {
+                if (schedule != null) {
+                    schedules.add(schedule);
+                }
+            }
+        }
+        return ScheduleIndex.findSlots(schedules, after, duration, count);
+    }
+
+    /**
+     * Returns the people who are on leave at a certain time.
+     * @param date time to be checked
+     * @return list of people on leave
+     */
+    public ArrayList<String> getAway(Date date) {
+        return getAway(date.getTime(), date.getTime() + 1);
+    }
+
+    /**
+     * Returns the people who are unavailable to carry out a task.
+     * A task assigned to everyone needs everyone, so anyone on leave during the task is returned.
+     * Leaves themselves are not checked.
+     * @param task task to be checked
+     * @param excluded task to be left out of the check, such as the task being checked itself, or null
+     * @return list of people who are unavailable
+     */
+    public ArrayList<String> getUnavailable(Task task, Task excluded) {
+        if (task instanceof Leave) {
+            return new ArrayList<>();
+        }
+        Booking booking = excluded == null ? null : bookings.get(excluded);
+        if (booking == null) {
+            return getUnavailable(task);
+        }
+        unbook(booking);
+        try {
+            return getUnavailable(task);
+        } finally {
+            book(booking);
+        }
+    }
+
+    /**
+     * Returns the people who are unavailable to carry out a task which is not a leave.
+     * @param task task to be checked
+     * @return list of people who are unavailable
+     */
+    private ArrayList<String> getUnavailable(Task task) {
+        ArrayList<String> unavailable = new ArrayList<>();
+        long start;
+        long end;
+        if (task instanceof Meeting) {
+            start = ScheduleIndex.getStart(task);
+            end = ScheduleIndex.getEnd(task);
+        } else {
+            start = task.getDate().getTime() / MINUTE * MINUTE;
+            end = start + MINUTE;
+        }
+        if (task.getAssignee().equals("everyone")) {
+            return getAway(start, end);
+        }
+        if (!isAvailable(task.getAssignee(), start, end)) {
+            unavailable.add(task.getAssignee());
+        }
+        return unavailable;
+    }
+
+    /**
+     * Returns the people who are on leave at any point of a time interval.
+     * @param start start time in milliseconds
+     * @param end end time in milliseconds
+     * @return list of people on leave
+     */
+    private ArrayList<String> getAway(long start, long end) {
+        ArrayList<String> people = new ArrayList<>();
+        for (Map.Entry<String, ScheduleIndex> entry : away.entrySet()) {
+            if (!entry.getValue().isFree(start, end)) {
+                people.add(entry.getKey());
+            }
+        }
+        return people;
+    }
+}
@@ -0,0 +1,78 @@
+package Operations;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A Bloom filter over strings.
+ * Answers whether a key might have been added, with no false negatives and a small rate of false positives,
+ * using a fixed amount of memory regardless of the length of the keys.
+ */
+public class BloomFilter {
+    private static final double LN2 = Math.log(2);
+    private long[] bits;
+    private int bitCount;
+    private int hashCount;
+
+    /**
+     * Constructor for the BloomFilter class.
+     * Sizes the filter for the expected number of keys and the accepted false positive rate.
+     * @param expectedKeys number of keys expected to be added
+     * @param falsePositiveRate accepted rate of false positives, between 0 and 1
+     */
+    public BloomFilter(int expectedKeys, double falsePositiveRate) {
+        int keys = Math.max(expectedKeys, 1);
+        long size = (long) Math.ceil(-keys * Math.log(falsePositiveRate) / (LN2 * LN2));
+        bitCount = (int) Math.max(64, Math.min(size, Integer.MAX_VALUE - 63));
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / keys * LN2));
+        bits = new long[(bitCount + 63) / 64];
+    }
+
+    /**
+     * Adds a key into the filter.
+     * @param key key to be added
+     */
+    public void add(String key) {
+        long hash = hash(key);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(first + i * second, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Checks if a key might have been added into the filter.
+     * @param key key to be checked
+     * @return false if the key was definitely never added, true if it might have been
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(first + i * second, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes a key into 64 bits using FNV-1a, followed by a final mix so both halves are usable.
+     * @param key key to be hashed
+     * @return 64-bit hash of the key
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
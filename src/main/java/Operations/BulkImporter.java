@@ -0,0 +1,147 @@
+package Operations;
+
+import CustomExceptions.RoomShareException;
+import Enums.ExceptionType;
+import Model_Classes.Task;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Imports many tasks at once, from either a file of add commands or a data file written by Storage.
+ * Incoming tasks are checked against a Bloom filter of the duplicate keys already in the task list,
+ * and the exact duplicate check is only run when the filter reports a possible hit, and only against the tasks
+ * with the same duplicate key, so merging a file made up mostly of duplicates stays linear.
+ * Time clashes are checked once for the whole list after the import.
+ */
+public class BulkImporter {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final Pattern STORAGE_LINE = Pattern.compile("^[A-Za-z]#[yn]#.*");
+    private TaskCreator taskCreator;
+    private Storage storage;
+    private int importedCount;
+    private ArrayList<String> duplicates = new ArrayList<>();
+    private ArrayList<String> errors = new ArrayList<>();
+    private ArrayList<int[]> clashes = new ArrayList<>();
+
+    /**
+     * Constructor for the BulkImporter class.
+     * @param taskCreator task creator used to parse add commands
+     * @param storage storage used to read data files
+     */
+    public BulkImporter(TaskCreator taskCreator, Storage storage) {
+        this.taskCreator = taskCreator;
+        this.storage = storage;
+    }
+
+    /**
+     * Imports all tasks in a file into the task list.
+     * Duplicates and lines with errors are skipped, and every skipped line is recorded for the summary.
+     * @param fileName path of the file to be imported
+     * @param taskList task list to import the tasks into
+     * @throws RoomShareException when the file cannot be read
+     */
+    public void importFile(String fileName, TaskList taskList) throws RoomShareException {
+        ArrayList<String> lines = new ArrayList<>();
+        try {
+            BufferedReader bufferedReader = new BufferedReader(new FileReader(fileName));
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    lines.add(line.trim());
+                }
+            }
+            bufferedReader.close();
+        } catch (IOException e) {
+            throw new RoomShareException(ExceptionType.loadError);
+        }
+        if (!lines.isEmpty() && STORAGE_LINE.matcher(lines.get(0)).matches()) {
+            importTasks(storage.loadFile(fileName), taskList);
+        } else {
+            importCommands(lines, taskList);
+        }
+    }
+
+    /**
+     * Imports tasks from a list of add commands.
+     * @param lines add commands, with or without the leading "add"
+     * @param taskList task list to import the tasks into
+     */
+    void importCommands(ArrayList<String> lines, TaskList taskList) {
+        ArrayList<Task> incoming = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.toLowerCase().startsWith("add ")) {
+                line = line.substring(4);
+            }
+            try {
+                incoming.add(taskCreator.parse(line.toLowerCase()));
+            } catch (RoomShareException e) {
+                errors.add("line " + (i + 1) + ": " + line);
+            }
+        }
+        importTasks(incoming, taskList);
+    }
+
+    /**
+     * Adds incoming tasks into the task list, skipping duplicates.
+     * The list is sorted and checked for clashes once at the end.
+     * @param incoming tasks to be imported
+     * @param taskList task list to import the tasks into
+     */
+    void importTasks(ArrayList<Task> incoming, TaskList taskList) {
+        ArrayList<Task> current = TaskList.getCurrentList();
+        BloomFilter seen = new BloomFilter(current.size() + incoming.size(), FALSE_POSITIVE_RATE);
+        HashMap<String, ArrayList<Task>> byKey = new HashMap<>();
+        for (Task task : current) {
+            String key = CheckAnomaly.getDuplicateKey(task);
+            seen.add(key);
+            byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(task);
+        }
+        ArrayList<Task> accepted = new ArrayList<>();
+        for (Task task : incoming) {
+            String key = CheckAnomaly.getDuplicateKey(task);
+            if (seen.mightContain(key) && isDuplicate(task, byKey.get(key))) {
+                duplicates.add(task.toString());
+            } else {
+                seen.add(key);
+                byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(task);
+                accepted.add(task);
+            }
+        }
+        taskList.addAll(accepted);
+        importedCount = accepted.size();
+        clashes = ClashDetector.findClashes(TaskList.getCurrentList());
+    }
+
+    /**
+     * Runs the exact duplicate check against the tasks in the task list and the tasks imported so far
+     * which have the same duplicate key.
+     * @param task task to be checked
+     * @param sameKey tasks with the same duplicate key, or null if there are none
+     * @return true if the task is a duplicate
+     */
+    private boolean isDuplicate(Task task, ArrayList<Task> sameKey) {
+        return sameKey != null && CheckAnomaly.isDuplicate(task, sameKey) != -1;
+    }
+
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    public ArrayList<String> getDuplicates() {
+        return duplicates;
+    }
+
+    public ArrayList<String> getErrors() {
+        return errors;
+    }
+
+    public ArrayList<int[]> getClashes() {
+        return clashes;
+    }
+}
@@ -18,14 +18,24 @@ public class CheckAnomaly {
      * @return current index if duplicate detected and -1 if no duplicate detected
      */
     public static int isDuplicate(Task task) {
+        return isDuplicate(task, TaskList.getCurrentList());
+    }
+
+    /**
+     * Checks for tasks with the same description in a list of tasks.
+     * @param task task we are checking
+     * @param tasks list of tasks to be checked against
+     * @return index in the list if duplicate detected and -1 if no duplicate detected
+     */
+    public static int isDuplicate(Task task, ArrayList<Task> tasks) {
         String name = task.getDescription();
         String assignee = task.getAssignee();
         String date = task.getDate().toString();
-        for (int i = 0; i < TaskList.getCurrentList().size(); i++) {
-            boolean isSameDescription = TaskList.getCurrentList().get(i).getDescription().equals(name);
-            boolean isSameAssignee = TaskList.getCurrentList().get(i).getAssignee().equals(assignee);
-            boolean isSameDate = TaskList.getCurrentList().get(i).getDate().toString().equals(date);
-            boolean isSameClass = TaskList.getCurrentList().get(i).getClass().equals(task.getClass());
+        for (int i = 0; i < tasks.size(); i++) {
+            boolean isSameDescription = tasks.get(i).getDescription().equals(name);
+            boolean isSameAssignee = tasks.get(i).getAssignee().equals(assignee);
+            boolean isSameDate = tasks.get(i).getDate().toString().equals(date);
+            boolean isSameClass = tasks.get(i).getClass().equals(task.getClass());
             if (isSameDescription && isSameAssignee
                     && isSameClass && isSameDate) {
                 return i;
@@ -34,6 +44,27 @@ public class CheckAnomaly {
         return -1;
     }
 
+    /**
+     * Returns a key that is the same for any two tasks that isDuplicate considers to be duplicates.
+     * @param task task to get the key of
+     * @return the duplicate key of the task
+     */
+    public static String getDuplicateKey(Task task) {
+        // Date.toString() has a precision of seconds
+        return task.getClass().getSimpleName() + "#" + task.getDescription() + "#"
+                + task.getAssignee() + "#" + Math.floorDiv(task.getDate().getTime(), 1000);
+    }
+
+    /**
+     * Checks for tasks with a similar description, such as "buy milk" and "Buy the milk!".
+     * Only checks when the near-duplicate check is turned on.
+     * @param task task we are checking
+     * @return list of tasks with a similar description
+     */
+    public static ArrayList<Task> findNearDuplicates(Task task) {
+        return TaskList.findNearDuplicates(task);
+    }
+
     /**
      * Checks for tasks in the overdue list for duplicates.
      * @param task task to be checked
@@ -121,6 +152,16 @@ public class CheckAnomaly {
         return -1;
     }
 
+    /**
+     * Checks if the people assigned to a task are on leave or in another meeting at the time of the task.
+     * The task itself is left out of the check, so tasks already in the list can be checked after being snoozed.
+     * @param task task we are checking
+     * @return list of people who are unavailable, empty if everyone involved is available
+     */
+    public static ArrayList<String> findUnavailable(Task task) {
+        return TaskList.getAvailabilityIndex().getUnavailable(task, task);
+    }
+
     /**
      * Checks if a timing clashes with the duration of another meeting.
      * @param time Timing we are checking.
@@ -198,7 +239,7 @@ public class CheckAnomaly {
      * @param unit unit the duration of the Meeting is in.
      * @return duration of Meeting in milliseconds.
      */
-    private static long timeToMilSeconds(long duration, TimeUnit unit) {
+    static long timeToMilSeconds(long duration, TimeUnit unit) {
         switch (unit) {
         case day:
             return duration * 60 * 60 * 24 * 1000;
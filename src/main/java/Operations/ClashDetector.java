@@ -0,0 +1,95 @@
+package Operations;
+
+import Model_Classes.Meeting;
+import Model_Classes.Task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.PriorityQueue;
+
+/**
+ * This class finds every pair of clashing meetings in a task list.
+ * Meeting intervals are sorted once and swept from left to right, so the whole
+ * calendar is checked in O(n log n + k) time, where k is the number of clashes.
+ */
+public class ClashDetector {
+    private static final long POINT_GRANULARITY = 10000;
+
+    /**
+     * Finds all pairs of meetings in the list whose timings overlap.
+     * Meetings without a fixed duration are treated as a single point in time.
+     * @param tasks list of tasks to be checked
+     * @return list of index pairs of clashing meetings, with the earlier meeting first
+     */
+    public static ArrayList<int[]> findClashes(ArrayList<Task> tasks) {
+        int size = tasks.size();
+        long[] start = new long[size];
+        long[] end = new long[size];
+        ArrayList<Integer> meetings = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Task task = tasks.get(i);
+            if (task instanceof Meeting) {
+                setInterval((Meeting) task, i, start, end);
+                meetings.add(i);
+            }
+        }
+        Integer[] order = meetings.toArray(new Integer[0]);
+        Arrays.sort(order, (first, second) -> Long.compare(start[first], start[second]));
+
+        ArrayList<int[]> clashes = new ArrayList<>();
+        PriorityQueue<Integer> active = new PriorityQueue<>((first, second) -> Long.compare(end[first], end[second]));
+        for (int current : order) {
+            while (!active.isEmpty() && end[active.peek()] <= start[current]) {
+                active.poll();
+            }
+            for (int other : active) {
+                clashes.add(new int[]{other, current});
+            }
+            active.add(current);
+        }
+        return clashes;
+    }
+
+    /**
+     * Groups clashes by the assignees of the meetings involved.
+     * A clash between meetings of two different assignees is listed under both of them.
+     * @param tasks list of tasks the clashes were found in
+     * @param clashes index pairs of clashing meetings
+     * @return the clashes of each assignee, in order of first appearance
+     */
+    public static LinkedHashMap<String, ArrayList<int[]>> groupByAssignee(ArrayList<Task> tasks,
+                                                                        ArrayList<int[]> clashes) {
+        LinkedHashMap<String, ArrayList<int[]>> groups = new LinkedHashMap<>();
+        for (int[] clash : clashes) {
+            String first = tasks.get(clash[0]).getAssignee();
+            String second = tasks.get(clash[1]).getAssignee();
+            groups.computeIfAbsent(first, k -> new ArrayList<>()).add(clash);
+            if (!second.equals(first)) {
+                groups.computeIfAbsent(second, k -> new ArrayList<>()).add(clash);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Fills in the start and end time of a meeting in milliseconds.
+     * Meetings without a fixed duration occupy a short slot, matching the granularity used by CheckAnomaly.
+     * @param meeting meeting to be converted
+     * @param index position of the meeting in the list
+     * @param start array of start times to be filled
+     * @param end array of end times to be filled
+     */
+    private static void setInterval(Meeting meeting, int index, long[] start, long[] end) {
+        long time = meeting.getDate().getTime();
+        if (meeting.isFixedDuration()) {
+            long duration = CheckAnomaly.timeToMilSeconds(Long.parseLong(meeting.getDuration()),
+                    meeting.getTimeUnit());
+            start[index] = time;
+            end[index] = time + Math.max(duration, 1);
+        } else {
+            start[index] = time / POINT_GRANULARITY * POINT_GRANULARITY;
+            end[index] = start[index] + POINT_GRANULARITY;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package Operations;
+
+import CustomExceptions.DuplicateException;
+import CustomExceptions.RoomShareException;
+import CustomExceptions.TimeClashException;
+import Enums.ListType;
+import Enums.RenderType;
+
+import java.util.EnumSet;
+
+/**
+ * A command given to RoomShare, such as adding or listing tasks.
+ * Besides carrying out the command, each command declares what the CommandPipeline has to do around it:
+ * which lists it may change, and so have to be saved afterwards, and how the screen is drawn for it.
+ */
+public interface Command {
+    /**
+     * Carries out the command.
+     * @param input the rest of the line the user entered after the command word
+     * @throws RoomShareException when the command cannot be carried out, which is shown to the user
+     * @throws DuplicateException when the command would add a task already in the list
+     * @throws TimeClashException when the command would add a meeting which clashes with another
+     */
+    void execute(String input) throws RoomShareException, DuplicateException, TimeClashException;
+
+    /**
+     * Returns the lists the command may change.
+     * @return the lists to be saved after the command, empty if the command changes nothing
+     */
+    EnumSet<ListType> getTouchedLists();
+
+    /**
+     * Returns how the screen is drawn for the command.
+     * @return the render type of the command
+     */
+    RenderType getRenderType();
+
+    /**
+     * Checks if the command may change any list.
+     * @return true if the command may change a list
+     */
+    default boolean isMutating() {
+        return !getTouchedLists().isEmpty();
+    }
+
+    /**
+     * Checks if the command ends the program.
+     * @return true if RoomShare should exit after the command
+     */
+    default boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Creates a command from its action.
+     * @param renderType how the screen is drawn for the command
+     * @param touchedLists the lists the command may change
+     * @param action what the command does
+     * @return the command
+     */
+    static Command of(RenderType renderType, EnumSet<ListType> touchedLists, Action action) {
+        return new Command() {
+            @Override
+            public void execute(String input) throws RoomShareException, DuplicateException, TimeClashException {
+                action.execute(input);
+            }
+
+            @Override
+            public EnumSet<ListType> getTouchedLists() {
+                return touchedLists;
+            }
+
+            @Override
+            public RenderType getRenderType() {
+                return renderType;
+            }
+        };
+    }
+
+    /**
+     * What a command does, without the details of how it is saved and drawn.
+     */
+    @FunctionalInterface
+    interface Action {
+        void execute(String input) throws RoomShareException, DuplicateException, TimeClashException;
+    }
+}
@@ -0,0 +1,67 @@
+package Operations;
+
+import Enums.TaskType;
+
+/**
+ * Counts the commands carried out by the CommandPipeline, and the time spent on each kind of command,
+ * including saving and drawing the screen.
+ */
+public class CommandMetrics {
+    private long[] counts = new long[TaskType.values().length];
+    private long[] totalNanos = new long[TaskType.values().length];
+    private long[] maxNanos = new long[TaskType.values().length];
+    private long saves;
+
+    /**
+     * Records a command that was carried out.
+     * @param type the command word
+     * @param nanos time taken by the command in nanoseconds
+     */
+    void record(TaskType type, long nanos) {
+        counts[type.ordinal()]++;
+        totalNanos[type.ordinal()] += nanos;
+        maxNanos[type.ordinal()] = Math.max(maxNanos[type.ordinal()], nanos);
+    }
+
+    /**
+     * Records a list that was saved.
+     */
+    void recordSave() {
+        saves++;
+    }
+
+    /**
+     * Returns the number of times a kind of command was carried out.
+     * @param type the command word
+     * @return number of commands
+     */
+    public long getCount(TaskType type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Returns the total time spent on a kind of command.
+     * @param type the command word
+     * @return time in nanoseconds
+     */
+    public long getTotalNanos(TaskType type) {
+        return totalNanos[type.ordinal()];
+    }
+
+    /**
+     * Returns the longest time taken by a single command of a kind.
+     * @param type the command word
+     * @return time in nanoseconds
+     */
+    public long getMaxNanos(TaskType type) {
+        return maxNanos[type.ordinal()];
+    }
+
+    /**
+     * Returns the number of times a list was saved.
+     * @return number of saves
+     */
+    public long getSaves() {
+        return saves;
+    }
+}
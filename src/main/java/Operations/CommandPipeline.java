@@ -0,0 +1,337 @@
+package Operations;
+
+import CustomExceptions.DuplicateException;
+import CustomExceptions.RoomShareException;
+import CustomExceptions.TimeClashException;
+import Enums.ListType;
+import Enums.RenderType;
+import Enums.TaskType;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+
+/**
+ * Carries out commands from a CommandRegistry, and does the work shared by all commands around them.
+ * The screen is only redrawn for commands which ask for it, only the lists a command may change are saved,
+ * and commands are only timed when metrics are being recorded.
+ * When given a Screen, each redraw is drawn as a frame, so only the lines which changed are written again.
+ * Errors from a command are shown to the user, and the lists it touched are saved even when it fails part way.
+ * When running a script, drawing can be turned off, and saving can be put off until the script calls flush,
+ * so that each command no longer rewrites the whole save file.
+ * Several commands on one line, separated by ';', each starting with a command word, are carried out together
+ * as a Transaction:
+ * the screen is drawn and the lists are saved once for the whole line, and if any command fails,
+ * the changes made by the others are undone.
+ */
+public class CommandPipeline {
+    private CommandRegistry registry;
+    private Ui ui;
+    private Storage storage;
+    private ListRoutine listRoutine;
+    private TempDeleteList deletedList;
+    private String taskFile;
+    private String overdueFile;
+    private CommandMetrics metrics;
+    private Screen screen;
+    private boolean isRendering = true;
+    private boolean isSavingDeferred;
+    private EnumSet<ListType> unsaved = EnumSet.noneOf(ListType.class);
+
+    /**
+     * Constructor for the CommandPipeline class.
+     * @param registry the commands to be carried out
+     * @param ui ui used to draw the screen and show errors
+     * @param storage storage used to save the lists
+     * @param listRoutine routine used to show the task list
+     * @param deletedList list of deleted tasks, which is put back if a line of commands fails
+     * @param taskFile file the task list is saved to
+     * @param overdueFile file the overdue list is saved to
+     */
+    public CommandPipeline(CommandRegistry registry, Ui ui, Storage storage, ListRoutine listRoutine,
+                           TempDeleteList deletedList, String taskFile, String overdueFile) {
+        this.registry = registry;
+        this.ui = ui;
+        this.storage = storage;
+        this.listRoutine = listRoutine;
+        this.deletedList = deletedList;
+        this.taskFile = taskFile;
+        this.overdueFile = overdueFile;
+    }
+
+    /**
+     * Starts or stops recording metrics for the commands carried out.
+     * @param metrics where the metrics are recorded, or null to stop recording
+     */
+    public void setMetrics(CommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the screen the frames drawn around commands are drawn on.
+     * @param screen the screen, or null to print each frame below the one before
+     */
+    public void setScreen(Screen screen) {
+        this.screen = screen;
+    }
+
+    /**
+     * Turns drawing the screen around commands on or off. Messages and errors of commands are still shown.
+     * @param isRendering true to draw the screen
+     */
+    public void setRendering(boolean isRendering) {
+        this.isRendering = isRendering;
+    }
+
+    /**
+     * Turns putting off saving on or off.
+     * While saving is put off, the lists touched by commands are only saved when flush is called.
+     * @param isSavingDeferred true to put off saving
+     */
+    public void setSavingDeferred(boolean isSavingDeferred) {
+        this.isSavingDeferred = isSavingDeferred;
+    }
+
+    /**
+     * Saves the lists touched by commands since they were last saved.
+     */
+    public void flush() {
+        EnumSet<ListType> lists = EnumSet.copyOf(unsaved);
+        unsaved.clear();
+        write(lists);
+    }
+
+    /**
+     * Saves the given lists, or marks them as unsaved if saving is put off, showing any error to the user.
+     * Used for commands and for changes made outside of a command, such as tasks rolled over or swept.
+     * @param lists lists to be saved
+     */
+    public void save(EnumSet<ListType> lists) {
+        if (isSavingDeferred) {
+            unsaved.addAll(lists);
+            return;
+        }
+        write(lists);
+    }
+
+    /**
+     * Carries out a command, drawing the screen and saving the lists it touched as required.
+     * @param type the command word
+     * @param input the rest of the line the user entered after the command word
+     * @return true if the command ends the program
+     */
+    public boolean run(TaskType type, String input) {
+        long start = metrics == null ? 0 : System.nanoTime();
+        Command command = registry.get(type);
+        RenderType renderType = isRendering ? command.getRenderType() : RenderType.none;
+        if (screen != null) {
+            screen.countInputLine();
+        }
+        beginFrame(renderType);
+        try {
+            if (renderType == RenderType.listBefore) {
+                listRoutine.list();
+            }
+            try {
+                command.execute(input);
+            } catch (RoomShareException | DuplicateException | TimeClashException e) {
+                showError(e);
+            } finally {
+                save(command.getTouchedLists());
+            }
+            if (renderType == RenderType.listAfter) {
+                listRoutine.list();
+            }
+        } finally {
+            endFrame(renderType);
+        }
+        if (metrics != null) {
+            metrics.record(type, System.nanoTime() - start);
+        }
+        return command.isExit();
+    }
+
+    /**
+     * Checks if a line is several commands separated by ';', rather than a single command whose input
+     * happens to contain ';', such as "add meeting -buy milk; eggs".
+     * Only the first part may use a shortened command word, so that input such as "; do dishes" is not
+     * mistaken for a command.
+     * @param line the line entered
+     * @return true if the line contains ';' and every part of it starts with a command word
+     */
+    public boolean isTransaction(String line) {
+        if (!line.contains(";")) {
+            return false;
+        }
+        ArrayList<String> words = registry.getWords();
+        String[] parts = line.split(";");
+        for (int i = 0; i < parts.length; i++) {
+            String word = parts[i].trim().split("\\s+", 2)[0];
+            if (word.isEmpty()) {
+                continue;
+            }
+            boolean isCommand = i == 0 ? registry.contains(CommandRegistry.getType(word)) : words.contains(word);
+            if (!isCommand) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Carries out several commands on one line, separated by ';', as a single transaction.
+     * Every command word is checked before any command is carried out, and commands which end the program
+     * cannot be part of a line. If a command fails, the changes made by the commands before it are undone,
+     * and the rest are not carried out. Either way, the screen is drawn once and the lists are saved once.
+     * @param line the line of commands
+     */
+    public void runTransaction(String line) {
+        ArrayList<TaskType> types = new ArrayList<>();
+        ArrayList<String> inputs = new ArrayList<>();
+        for (String part : line.split(";")) {
+            String[] words = part.trim().split("\\s+", 2);
+            if (words[0].isEmpty()) {
+                continue;
+            }
+            TaskType type = CommandRegistry.getType(words[0]);
+            if (!registry.contains(type) || registry.get(type).isExit()) {
+                run(TaskType.others, line);
+                return;
+            }
+            types.add(type);
+            inputs.add(words.length > 1 ? words[1].trim() : "");
+        }
+        RenderType renderType = RenderType.none;
+        EnumSet<ListType> touched = EnumSet.noneOf(ListType.class);
+        for (TaskType type : types) {
+            renderType = combine(renderType, registry.get(type).getRenderType());
+            touched.addAll(registry.get(type).getTouchedLists());
+        }
+        if (!isRendering) {
+            renderType = RenderType.none;
+        }
+        if (screen != null) {
+            screen.countInputLine();
+        }
+        beginFrame(renderType);
+        try {
+            Transaction transaction = new Transaction(deletedList);
+            boolean isCommitted = false;
+            try {
+                int done = 0;
+                while (done < types.size() && runInTransaction(types.get(done), inputs.get(done))) {
+                    done++;
+                }
+                if (done == types.size()) {
+                    transaction.commit();
+                    isCommitted = true;
+                } else {
+                    ui.showRolledBack(types.size());
+                }
+            } finally {
+                if (!isCommitted) {
+                    transaction.rollback();
+                }
+            }
+            if (isCommitted) {
+                save(touched);
+            }
+            if (renderType == RenderType.listBefore || renderType == RenderType.listAfter) {
+                listRoutine.list();
+            }
+        } finally {
+            endFrame(renderType);
+        }
+    }
+
+    /**
+     * Starts a new frame with the header, unless the screen is not drawn for the command.
+     * @param renderType how the screen is drawn for the command
+     */
+    private void beginFrame(RenderType renderType) {
+        if (renderType == RenderType.none) {
+            return;
+        }
+        if (screen != null) {
+            screen.begin();
+        }
+        ui.startUp();
+    }
+
+    /**
+     * Draws the frame started by beginFrame on the screen.
+     * @param renderType how the screen is drawn for the command
+     */
+    private void endFrame(RenderType renderType) {
+        if (renderType != RenderType.none && screen != null) {
+            screen.end();
+        }
+    }
+
+    /**
+     * Carries out a command which is part of a transaction, without drawing the screen or saving.
+     * @param type the command word
+     * @param input the rest of the command after the command word
+     * @return true if the command succeeded
+     */
+    private boolean runInTransaction(TaskType type, String input) {
+        long start = metrics == null ? 0 : System.nanoTime();
+        try {
+            registry.get(type).execute(input);
+            return true;
+        } catch (RoomShareException | DuplicateException | TimeClashException e) {
+            showError(e);
+            return false;
+        } finally {
+            if (metrics != null) {
+                metrics.record(type, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Works out how the screen is drawn for two commands carried out together.
+     * The task list is shown once at the end if either command shows it.
+     * @param first render type of the first command
+     * @param second render type of the second command
+     * @return the render type for both commands
+     */
+    private static RenderType combine(RenderType first, RenderType second) {
+        if (first == RenderType.listAfter || second == RenderType.listAfter
+                || first == RenderType.listBefore || second == RenderType.listBefore) {
+            return RenderType.listAfter;
+        }
+        return first == RenderType.header || second == RenderType.header ? RenderType.header : RenderType.none;
+    }
+
+    /**
+     * Shows an error from a command, with a hint on finding a free slot if a meeting clashed with another.
+     * @param e the error
+     */
+    private void showError(Exception e) {
+        ui.showError(e);
+        if (e instanceof TimeClashException) {
+            ui.showFindSlotHint();
+        }
+    }
+
+    /**
+     * Writes the given lists to their files, showing any error to the user.
+     * @param lists lists to be written
+     */
+    private void write(EnumSet<ListType> lists) {
+        for (ListType list : lists) {
+            try {
+                if (list == ListType.tasks) {
+                    storage.writeFile(TaskList.getCurrentList(), taskFile);
+                } else {
+                    storage.writeFile(OverdueList.getOverdueList(), overdueFile);
+                }
+                if (metrics != null) {
+                    metrics.recordSave();
+                }
+            } catch (RoomShareException e) {
+                ui.showError(e);
+            }
+        }
+    }
+}
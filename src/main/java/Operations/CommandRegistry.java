@@ -0,0 +1,103 @@
+package Operations;
+
+import CustomExceptions.RoomShareException;
+import Enums.ExceptionType;
+import Enums.ListType;
+import Enums.RenderType;
+import Enums.TaskType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+
+/**
+ * Keeps the command for each command word.
+ * Command words without a command of their own are handled by the command registered for TaskType.others,
+ * which by default reports an invalid command.
+ * Command words are looked up in a PrefixTrie, so a command can also be given by any prefix only it starts with,
+ * except for the commands which end the program or remove tasks, which have to be typed in full.
+ * Their prefixes are only used to suggest completions.
+ */
+public class CommandRegistry {
+    private static final PrefixTrie COMMAND_WORDS = new PrefixTrie();
+    private static final EnumSet<TaskType> FULL_WORD_ONLY = EnumSet.of(TaskType.bye, TaskType.delete,
+            TaskType.removeoverdue);
+
+    static {
+        for (TaskType type : TaskType.values()) {
+            if (type != TaskType.others) {
+                COMMAND_WORDS.add(type.name());
+            }
+        }
+    }
+
+    private EnumMap<TaskType, Command> commands = new EnumMap<>(TaskType.class);
+
+    /**
+     * Constructor for the CommandRegistry class.
+     */
+    public CommandRegistry() {
+        register(TaskType.others, Command.of(RenderType.listAfter, EnumSet.noneOf(ListType.class), input -> {
+            throw new RoomShareException(ExceptionType.invalidCommand);
+        }));
+    }
+
+    /**
+     * Registers the command for a command word, replacing any command already registered for it.
+     * @param type the command word
+     * @param command the command to be carried out
+     */
+    public void register(TaskType type, Command command) {
+        commands.put(type, command);
+    }
+
+    /**
+     * Returns the type of a command word, such as TaskType.snooze for "snooze" or "sn".
+     * @param word the command word, or a prefix of only one command word which does not have to be typed in full
+     * @return the type of the command, or TaskType.others if the word is not a command
+     */
+    public static TaskType getType(String word) {
+        String name = COMMAND_WORDS.resolve(word);
+        if (name == null) {
+            return TaskType.others;
+        }
+        TaskType type = TaskType.valueOf(name);
+        if (!name.equals(word) && FULL_WORD_ONLY.contains(type)) {
+            return TaskType.others;
+        }
+        return type;
+    }
+
+    /**
+     * Returns the command words which have a command of their own.
+     * @return the command words
+     */
+    public ArrayList<String> getWords() {
+        ArrayList<String> words = new ArrayList<>();
+        for (TaskType type : commands.keySet()) {
+            if (type != TaskType.others) {
+                words.add(type.name());
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Checks if a command word has a command of its own.
+     * @param type the command word
+     * @return true if a command is registered for the word
+     */
+    public boolean contains(TaskType type) {
+        return type != TaskType.others && commands.containsKey(type);
+    }
+
+    /**
+     * Returns the command for a command word.
+     * @param type the command word
+     * @return the command registered for the word, or the command for TaskType.others if there is none
+     */
+    public Command get(TaskType type) {
+        Command command = commands.get(type);
+        return command == null ? commands.get(TaskType.others) : command;
+    }
+}
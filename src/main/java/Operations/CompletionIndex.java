@@ -0,0 +1,132 @@
+package Operations;
+
+import Model_Classes.Task;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+/**
+ * Suggests completions for the last word of a partly typed command.
+ * The first word is completed from the command words, a word starting with '#' from the task types,
+ * a word starting with '@' from the people tasks are assigned to, and any other word from the words used
+ * in task descriptions, the most used first.
+ * The people and description words of the tasks in the list are kept in PrefixTries, which are updated as tasks
+ * are added, changed and removed, so suggesting completions never looks through the task list.
+ */
+public class CompletionIndex {
+    private static final int MIN_WORD_LENGTH = 3;
+    private PrefixTrie commandWords = new PrefixTrie();
+    private PrefixTrie assignees = new PrefixTrie();
+    private PrefixTrie descriptionWords = new PrefixTrie();
+    private IdentityHashMap<Task, String[]> indexedWords = new IdentityHashMap<>();
+    private IdentityHashMap<Task, String> indexedAssignees = new IdentityHashMap<>();
+
+    /**
+     * Constructor for the CompletionIndex class.
+     * @param commands the command words to be suggested for the first word
+     */
+    public CompletionIndex(ArrayList<String> commands) {
+        for (String command : commands) {
+            commandWords.add(command);
+        }
+    }
+
+    /**
+     * Adds the assignee and description words of a task into the index, replacing those indexed for it before.
+     * @param task task to be indexed
+     */
+    public void add(Task task) {
+        if (indexedWords.containsKey(task)) {
+            remove(task);
+        }
+        String[] words = getWords(task.getDescription());
+        for (String word : words) {
+            descriptionWords.add(word);
+        }
+        indexedWords.put(task, words);
+        if (task.getAssignee() != null && !task.getAssignee().isEmpty()) {
+            String assignee = task.getAssignee().toLowerCase();
+            assignees.add(assignee);
+            indexedAssignees.put(task, assignee);
+        }
+    }
+
+    /**
+     * Removes the assignee and description words of a task from the index.
+     * @param task task to be removed
+     */
+    public void remove(Task task) {
+        String[] words = indexedWords.remove(task);
+        if (words != null) {
+            for (String word : words) {
+                descriptionWords.remove(word);
+            }
+        }
+        String assignee = indexedAssignees.remove(task);
+        if (assignee != null) {
+            assignees.remove(assignee);
+        }
+    }
+
+    /**
+     * Removes every task from the index, keeping the command words.
+     */
+    public void clear() {
+        assignees.clear();
+        descriptionWords.clear();
+        indexedWords.clear();
+        indexedAssignees.clear();
+    }
+
+    /**
+     * Suggests completions for the last word of a partly typed command.
+     * @param line the command typed so far
+     * @return the completions of the last word, including any '#' or '@' it starts with, empty if there are none
+     */
+    public ArrayList<String> complete(String line) {
+        int start = line.lastIndexOf(' ') + 1;
+        String word = line.substring(start);
+        if (start == 0) {
+            return commandWords.complete(word);
+        }
+        if (word.startsWith("#")) {
+            return withMark('#', TaskCreator.TASK_TYPES.complete(word.substring(1)));
+        }
+        if (word.startsWith("@")) {
+            return withMark('@', assignees.complete(word.substring(1)));
+        }
+        if (word.startsWith("-")) {
+            return withMark('-', descriptionWords.complete(word.substring(1)));
+        }
+        return descriptionWords.complete(word);
+    }
+
+    /**
+     * Puts the mark of a field in front of each completion.
+     * @param mark the mark, such as '@'
+     * @param completions completions without the mark
+     * @return completions with the mark
+     */
+    private static ArrayList<String> withMark(char mark, ArrayList<String> completions) {
+        ArrayList<String> marked = new ArrayList<>();
+        for (String completion : completions) {
+            marked.add(mark + completion);
+        }
+        return marked;
+    }
+
+    /**
+     * Breaks a description into the words worth suggesting, leaving out short words.
+     * @param description the description of a task
+     * @return the words of the description in lower case
+     */
+    private static String[] getWords(String description) {
+        ArrayList<String> words = new ArrayList<>();
+        for (String word : description.toLowerCase().split("[^a-z0-9]+")) {
+            if (word.length() >= MIN_WORD_LENGTH) {
+                words.add(word);
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,139 @@
+package Operations;
+
+import java.util.ArrayList;
+
+/**
+ * The fields of a task in the user's input, found in a single pass over the input without regular expressions.
+ * Each flag character starts a field, which runs up to the next flag character of any kind.
+ * For example, "#meeting# -plan trip &22/12/2019 18:00&" has the type "meeting", the description "plan trip"
+ * and the date "22/12/2019 18:00".
+ * Only the positions of the fields are kept, and the text of a field is only copied out when it is asked for.
+ * Objects of this class cannot be changed once created.
+ */
+final class FlagFields {
+    private static final int FLAG_COUNT = 9;
+    private final String input;
+    private final int[][] starts = new int[FLAG_COUNT][];
+    private final int[][] ends = new int[FLAG_COUNT][];
+    private final int tailStart;
+
+    /**
+     * Constructor for the FlagFields class.
+     * @param input user's input
+     */
+    FlagFields(String input) {
+        this.input = input;
+        int length = input.length();
+        int[] positions = new int[length];
+        int[] counts = new int[FLAG_COUNT];
+        int flagCount = 0;
+        int runStart = 0;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (i > 0 && c != input.charAt(i - 1)) {
+                runStart = i;
+            }
+            int flag = indexOf(c);
+            if (flag >= 0) {
+                positions[flagCount++] = i;
+                counts[flag]++;
+            }
+        }
+        tailStart = runStart;
+        for (int flag = 0; flag < FLAG_COUNT; flag++) {
+            starts[flag] = new int[counts[flag]];
+            ends[flag] = new int[counts[flag]];
+            counts[flag] = 0;
+        }
+        for (int k = 0; k < flagCount; k++) {
+            int flag = indexOf(input.charAt(positions[k]));
+            int end = k + 1 < flagCount ? positions[k + 1] : length;
+            starts[flag][counts[flag]] = positions[k] + 1;
+            ends[flag][counts[flag]] = end;
+            counts[flag]++;
+        }
+    }
+
+    /**
+     * Checks if a character is one of the flags used in the input format.
+     * @param c character to be checked
+     * @return true if the character is a flag
+     */
+    static boolean isFlag(char c) {
+        return indexOf(c) >= 0;
+    }
+
+    /**
+     * Checks if the input has a flag.
+     * @param flag flag to be checked
+     * @return true if the flag appears in the input
+     */
+    boolean has(char flag) {
+        return starts[indexOf(flag)].length > 0;
+    }
+
+    /**
+     * Returns the field started by the first appearance of a flag.
+     * As when the input was split on the flag, there is no field if nothing but the same flag follows it.
+     * @param flag flag of the field
+     * @return the text of the field without surrounding spaces, or null if there is no such field
+     */
+    String get(char flag) {
+        int index = indexOf(flag);
+        if (starts[index].length == 0) {
+            return null;
+        }
+        int lastOther = input.charAt(input.length() - 1) != flag ? input.length() - 1 : tailStart - 1;
+        if (lastOther < starts[index][0]) {
+            return null;
+        }
+        return input.substring(starts[index][0], ends[index][0]).trim();
+    }
+
+    /**
+     * Returns every field started by a flag which is not empty, such as both dates of a leave.
+     * @param flag flag of the fields
+     * @return the text of the fields without surrounding spaces, in the order they appear
+     */
+    ArrayList<String> getAll(char flag) {
+        int index = indexOf(flag);
+        ArrayList<String> fields = new ArrayList<>();
+        for (int k = 0; k < starts[index].length; k++) {
+            String field = input.substring(starts[index][k], ends[index][k]).trim();
+            if (!field.isEmpty()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the position of a flag in the list of flags.
+     * @param c character to be checked
+     * @return the position, or -1 if the character is not a flag
+     */
+    private static int indexOf(char c) {
+        switch (c) {
+        case '#':
+            return 0;
+        case '(':
+            return 1;
+        case '*':
+            return 2;
+        case '&':
+            return 3;
+        case '@':
+            return 4;
+        case '^':
+            return 5;
+        case '!':
+            return 6;
+        case '%':
+            return 7;
+        case '-':
+            return 8;
+        default:
+            return -1;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package Operations;
 
 import CustomExceptions.RoomShareException;
+import Enums.ExceptionType;
 import Model_Classes.ProgressBar;
 
 public class ListRoutine {
+    private static final int DEFAULT_PAGE_SIZE = 20;
     private TaskList taskList;
     private OverdueList overdueList;
     private Ui ui = new Ui();
+    private int pageSize = DEFAULT_PAGE_SIZE;
+    private int page;
 
     /**
      * constructor for the ListRoutine.
@@ -20,13 +24,23 @@ public class ListRoutine {
     /**
      * the listing method to be used by ListRoutine.
      * lists the tasks and the associated information, while showing the progress bar
+     * when a page of the list is being shown, only the tasks on that page are listed
      */
     public void list() {
         ui.showSort();
-        ui.showList();
         try {
-            taskList.list(overdueList);
-            taskList.showCompleted();
+            if (page == 0) {
+                ui.showList();
+                taskList.list(overdueList);
+                taskList.showCompleted();
+            } else {
+                int pageCount = getPageCount();
+                page = Math.min(page, pageCount);
+                int from = (page - 1) * pageSize;
+                int to = Math.min(from + pageSize, TaskList.getCurrentList().size());
+                ui.showPage(page, pageCount, from + 1, to, TaskList.getCurrentList().size());
+                taskList.listPage(from, to);
+            }
         } catch (RoomShareException e) {
             ui.showError(e);
         }
@@ -35,4 +49,74 @@ public class ListRoutine {
         ProgressBar progressBar = new ProgressBar(taskListSize, taskListDoneSize);
         ui.showBar(progressBar.showBar());
     }
+
+    /**
+     * Shows a page of the list from now on, instead of the whole list.
+     * @param page the page number, counting from 1
+     * @throws RoomShareException when the page number is not a page of the list
+     */
+    public void showPage(int page) throws RoomShareException {
+        if (page < 1 || page > getPageCount()) {
+            throw new RoomShareException(ExceptionType.outOfBounds);
+        }
+        this.page = page;
+    }
+
+    /**
+     * Shows the page after the one being shown, or the first page if the whole list is being shown.
+     * @throws RoomShareException when the last page is being shown
+     */
+    public void nextPage() throws RoomShareException {
+        showPage(page + 1);
+    }
+
+    /**
+     * Shows the page before the one being shown.
+     * @throws RoomShareException when the first page, or the whole list, is being shown
+     */
+    public void previousPage() throws RoomShareException {
+        showPage(page - 1);
+    }
+
+    /**
+     * Shows the page with a task on it.
+     * @param index index of the task in the list, counting from 0
+     * @throws RoomShareException when the index is not in the list
+     */
+    public void showPageOf(int index) throws RoomShareException {
+        if (index < 0 || index >= TaskList.getCurrentList().size()) {
+            throw new RoomShareException(ExceptionType.outOfBounds);
+        }
+        page = index / pageSize + 1;
+    }
+
+    /**
+     * Sets the number of tasks on each page, keeping the first task of the page being shown in view.
+     * @param pageSize number of tasks on each page
+     * @throws RoomShareException when the number is less than 1
+     */
+    public void setPageSize(int pageSize) throws RoomShareException {
+        if (pageSize < 1) {
+            throw new RoomShareException(ExceptionType.outOfBounds);
+        }
+        if (page > 0) {
+            page = (page - 1) * this.pageSize / pageSize + 1;
+        }
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Shows the whole list again instead of a page of it.
+     */
+    public void showAll() {
+        page = 0;
+    }
+
+    /**
+     * Returns the number of pages in the list, which is at least 1.
+     * @return the number of pages
+     */
+    private int getPageCount() {
+        return Math.max(1, (TaskList.getCurrentList().size() + pageSize - 1) / pageSize);
+    }
 }
@@ -0,0 +1,205 @@
+package Operations;
+
+import Model_Classes.Task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Detects tasks with similar descriptions, such as "buy milk" and "Buy the milk!".
+ * Descriptions are normalised and broken into character shingles, and each task keeps a MinHash signature
+ * of its shingles. Signatures are split into bands for locality-sensitive hashing, so finding the tasks
+ * similar to a new task only looks at the tasks sharing a band with it, instead of the whole list.
+ */
+public class NearDuplicateDetector {
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int BANDS = 20;
+    private static final int ROWS = 3;
+    private static final int SIGNATURE_LENGTH = BANDS * ROWS;
+    private static final double THRESHOLD = 0.5;
+    private static final long[] SEEDS_A = new long[SIGNATURE_LENGTH];
+    private static final long[] SEEDS_B = new long[SIGNATURE_LENGTH];
+    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+            "a", "an", "the", "to", "of", "for", "and", "some", "my", "our"));
+
+    static {
+        Random random = new Random(2113);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            SEEDS_A[i] = random.nextLong() | 1;
+            SEEDS_B[i] = random.nextLong();
+        }
+    }
+
+    private IdentityHashMap<Task, String> indexedDescriptions = new IdentityHashMap<>();
+    private IdentityHashMap<Task, int[]> signatures = new IdentityHashMap<>();
+    private HashMap<Long, ArrayList<Task>> buckets = new HashMap<>();
+
+    /**
+     * Adds a task into the index.
+     * @param task task to be indexed
+     */
+    public void add(Task task) {
+        if (signatures.containsKey(task)) {
+            remove(task);
+        }
+        int[] signature = getSignature(task.getDescription());
+        signatures.put(task, signature);
+        indexedDescriptions.put(task, task.getDescription());
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(getBandKey(signature, band), k -> new ArrayList<>()).add(task);
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     * @param task task to be removed
+     */
+    public void remove(Task task) {
+        int[] signature = signatures.remove(task);
+        indexedDescriptions.remove(task);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = getBandKey(signature, band);
+            ArrayList<Task> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.removeIf(t -> t == task);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the indexed tasks with a description similar to the given task.
+     * Indexed tasks whose description has changed since they were indexed are indexed again first.
+     * @param task task to be checked, which does not need to be in the index
+     * @return list of similar tasks, not including the task itself
+     */
+    public ArrayList<Task> findSimilar(Task task) {
+        int[] signature = getSignature(task.getDescription());
+        Set<Task> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int band = 0; band < BANDS; band++) {
+            ArrayList<Task> bucket = buckets.get(getBandKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        ArrayList<Task> similar = new ArrayList<>();
+        for (Task candidate : candidates) {
+            if (candidate == task) {
+                continue;
+            }
+            if (!candidate.getDescription().equals(indexedDescriptions.get(candidate))) {
+                add(candidate);
+            }
+            if (getSimilarity(signature, signatures.get(candidate)) >= THRESHOLD) {
+                similar.add(candidate);
+            }
+        }
+        return similar;
+    }
+
+    /**
+     * Finds every pair of tasks in a list with similar descriptions.
+     * @param tasks list of tasks to be checked
+     * @return index pairs of similar tasks, with the earlier task first
+     */
+    public static ArrayList<int[]> findAllSimilar(ArrayList<Task> tasks) {
+        NearDuplicateDetector detector = new NearDuplicateDetector();
+        IdentityHashMap<Task, Integer> positions = new IdentityHashMap<>();
+        ArrayList<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            for (Task similar : detector.findSimilar(task)) {
+                pairs.add(new int[]{positions.get(similar), i});
+            }
+            detector.add(task);
+            positions.put(task, i);
+        }
+        return pairs;
+    }
+
+    /**
+     * Returns the fraction of signature positions two signatures agree on,
+     * which estimates the Jaccard similarity of their shingle sets.
+     * @param first first signature
+     * @param second second signature
+     * @return estimated similarity between 0 and 1
+     */
+    private static double getSimilarity(int[] first, int[] second) {
+        int same = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (first[i] == second[i]) {
+                same++;
+            }
+        }
+        return (double) same / SIGNATURE_LENGTH;
+    }
+
+    /**
+     * Computes the MinHash signature of a description.
+     * @param description description of a task
+     * @return the signature of the description
+     */
+    static int[] getSignature(String description) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        String text = normalise(description);
+        if (text.length() < SHINGLE_LENGTH) {
+            text = text + "  ".substring(0, SHINGLE_LENGTH - text.length());
+        }
+        for (int start = 0; start + SHINGLE_LENGTH <= text.length(); start++) {
+            long shingle = text.substring(start, start + SHINGLE_LENGTH).hashCode();
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                long hash = shingle * SEEDS_A[i] + SEEDS_B[i];
+                int value = (int) ((hash ^ (hash >>> 29)) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Lower-cases a description, removes punctuation and common filler words, and joins the words by spaces.
+     * @param description description of a task
+     * @return the normalised description
+     */
+    static String normalise(String description) {
+        StringBuilder builder = new StringBuilder();
+        for (String word : description.toLowerCase().split("[^\\p{Alnum}]+")) {
+            if (word.isEmpty() || STOP_WORDS.contains(word)) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(word);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the key of the bucket a signature falls into for a band.
+     * @param signature signature of a task
+     * @param band index of the band
+     * @return key of the bucket
+     */
+    private static long getBandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 1000003 + signature[row];
+        }
+        return key;
+    }
+}
@@ -0,0 +1,57 @@
+package Operations;
+
+import Model_Classes.RecurrenceRule;
+import Model_Classes.Task;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Lazily goes through the occurrences of a task within a time window, as epoch milliseconds.
+ * Occurrences are worked out one at a time from the recurrence rule of the task when asked for,
+ * so a window of any length costs no memory up front, and nothing is added to the task list.
+ * The first occurrence in the window is found in a fixed number of steps, however far the window is
+ * from the date of the task.
+ * A task that does not recur has a single occurrence at its date.
+ * Occurrences before the current date of the task have already been rolled over and are not included.
+ */
+public class OccurrenceIterator implements PrimitiveIterator.OfLong {
+    private ZonedDateTime anchor;
+    private RecurrenceRule rule;
+    private long to;
+    private ZonedDateTime next;
+
+    /**
+     * Constructor for the OccurrenceIterator class.
+     * @param task task to be expanded
+     * @param from start of the window, inclusive
+     * @param to end of the window, exclusive
+     */
+    public OccurrenceIterator(Task task, Instant from, Instant to) {
+        this.anchor = task.getDateTime();
+        this.to = to.toEpochMilli();
+        this.rule = task.hasRecurring() ? task.getRecurrenceRule() : null;
+        if (!anchor.toInstant().isBefore(from)) {
+            next = anchor;
+        } else if (rule != null) {
+            next = rule.next(anchor, from.minusNanos(1).atZone(anchor.getZone()));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null && next.toInstant().toEpochMilli() < to;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ZonedDateTime current = next;
+        next = rule == null ? null : rule.next(anchor, current);
+        return current.toInstant().toEpochMilli();
+    }
+}
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 
 public class OverdueList {
     private static ArrayList<Task> overdue;
+    private ViewBuffer view = new ViewBuffer();
 
     /**
      * A constructor for the overdueList class.
@@ -45,8 +46,8 @@ public class OverdueList {
                 list();
                 throw new RoomShareException(ExceptionType.outOfBounds);
             } else {
-                taskList.add(overdue.get(index[0]));
                 overdue.get(index[0]).setOverdue(false);
+                taskList.add(overdue.get(index[0]));
             }
         } else {
             boolean isNegativeFirstIndex = index[0] < 0;
@@ -58,8 +59,8 @@ public class OverdueList {
                 throw new RoomShareException(ExceptionType.outOfBounds);
             }
             for (int i = index[0]; i <= index[1]; i++){
-                taskList.add(overdue.get(i));
                 overdue.get(i).setOverdue(false);
+                taskList.add(overdue.get(i));
             }
         }
         for (int i = 0; i < index.length; i++){
@@ -68,7 +69,7 @@ public class OverdueList {
     }
 
     /**
-     * lists the tasks that are current in the overdued task list.
+     * lists the tasks that are current in the overdued task list, in a single write.
      * @throws RoomShareException when the list is empty
      */
     public void list() throws RoomShareException {
@@ -77,10 +78,11 @@ public class OverdueList {
         } else {
             int listCount = 1;
             for (Task output : overdue) {
-                System.out.println("\t" + listCount + ". " + output.toString());
+                view.append("\t").append(listCount).append(". ").append(output).newLine();
                 showSubtasks(output);
                 listCount += 1;
             }
+            view.flush();
         }
     }
 
@@ -143,7 +145,7 @@ public class OverdueList {
         if (task instanceof Assignment && !(((Assignment) task).getSubTasks() == null)) {
             ArrayList<String> subTasks = ((Assignment) task).getSubTasks();
             for (String subtask : subTasks) {
-                System.out.println("\t" + "\t" + "-" + subtask);
+                view.append("\t\t-").append(subtask).newLine();
             }
         }
     }
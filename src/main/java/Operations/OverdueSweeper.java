@@ -0,0 +1,239 @@
+package Operations;
+
+import Model_Classes.Leave;
+import Model_Classes.Task;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves tasks into the overdue list as soon as their deadlines pass, while RoomShare is running.
+ * Tasks that are not done are kept in a min-heap keyed by their deadline, and a single timer thread
+ * wakes up at the earliest of these times, so listing or finding tasks never has to look for overdue tasks.
+ * Only the tasks that have passed their deadline are touched, each costing O(log n).
+ * Recurring tasks are left to the RecurrenceScheduler, which moves them to their next occurrence instead.
+ * Leaves are never overdue, but are kept in the heap keyed by their end, and removed from the list once they end.
+ * Tasks that are changed, done or removed are not searched for in the heap: their old entries are
+ * recognised as stale and skipped when they reach the top.
+ */
+public class OverdueSweeper {
+    private Runnable onSweep;
+    private PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private IdentityHashMap<Task, Long> deadlines = new IdentityHashMap<>();
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> pending;
+    private long pendingDeadline = Long.MAX_VALUE;
+
+    /**
+     * Constructor for the OverdueSweeper class.
+     * @param onSweep action run on the timer thread, while holding the task list lock,
+     *                after tasks have been moved into the overdue list
+     */
+    public OverdueSweeper(Runnable onSweep) {
+        this.onSweep = onSweep;
+    }
+
+    /**
+     * Tracks every task in a list which can become overdue, moves the ones already overdue and starts the timer.
+     * The heap is built in a single O(n) pass.
+     * @param tasks list of tasks to be tracked
+     * @return true if any task was moved into the overdue list
+     */
+    public boolean start(ArrayList<Task> tasks) {
+        synchronized (TaskList.getLock()) {
+            ArrayList<Entry> entries = new ArrayList<>();
+            for (Task task : tasks) {
+                if (isSwept(task)) {
+                    long deadline = getDeadline(task);
+                    deadlines.put(task, deadline);
+                    entries.add(new Entry(task, deadline));
+                }
+            }
+            queue = new PriorityQueue<>(entries);
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "overdue-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            return checkDue();
+        }
+    }
+
+    /**
+     * Starts tracking a task, or updates the deadline of a task already tracked.
+     * Tasks that can no longer become overdue, such as ones that are done, stop being tracked.
+     * @param task task which was added or changed
+     */
+    public void track(Task task) {
+        synchronized (TaskList.getLock()) {
+            deadlines.remove(task);
+            if (isSwept(task)) {
+                long deadline = getDeadline(task);
+                deadlines.put(task, deadline);
+                queue.add(new Entry(task, deadline));
+            }
+            reschedule();
+        }
+    }
+
+    /**
+     * Stops tracking a task, such as one that was deleted.
+     * @param task task to stop tracking
+     */
+    public void cancel(Task task) {
+        synchronized (TaskList.getLock()) {
+            deadlines.remove(task);
+        }
+    }
+
+    /**
+     * Moves every tracked task whose deadline has passed into the overdue list, and arms the timer for the next one.
+     * Also called before each command, in case the timer was held up, such as by the computer sleeping.
+     * @return true if any task was moved into the overdue list
+     */
+    public boolean checkDue() {
+        synchronized (TaskList.getLock()) {
+            boolean isSwept = sweepDue(System.currentTimeMillis()) > 0;
+            reschedule();
+            return isSwept;
+        }
+    }
+
+    /**
+     * Stops the timer thread.
+     */
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of tasks being tracked.
+     * @return number of tracked tasks
+     */
+    public int size() {
+        synchronized (TaskList.getLock()) {
+            return deadlines.size();
+        }
+    }
+
+    /**
+     * Moves the tracked tasks whose deadlines are at or before a given time into the overdue list,
+     * and removes the leaves which have ended by then from the task list.
+     * @param now time in epoch milliseconds
+     * @return number of tasks moved into the overdue list
+     */
+    int sweepDue(long now) {
+        int count = 0;
+        while (!queue.isEmpty() && queue.peek().deadline <= now) {
+            Entry entry = queue.poll();
+            if (isStale(entry)) {
+                continue;
+            }
+            deadlines.remove(entry.task);
+            if (!isSwept(entry.task)) {
+                continue;
+            }
+            if (entry.task instanceof Leave) {
+                TaskList.removeFinishedLeave((Leave) entry.task);
+                continue;
+            }
+            TaskList.moveToOverdue(entry.task);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Runs on the timer thread when the earliest deadline is reached.
+     */
+    private void fire() {
+        synchronized (TaskList.getLock()) {
+            pending = null;
+            pendingDeadline = Long.MAX_VALUE;
+            if (checkDue()) {
+                onSweep.run();
+            }
+        }
+    }
+
+    /**
+     * Arms the timer for the earliest live deadline, unless it is already armed for an earlier time.
+     */
+    private void reschedule() {
+        while (!queue.isEmpty() && isStale(queue.peek())) {
+            queue.poll();
+        }
+        if (executor == null || queue.isEmpty()) {
+            return;
+        }
+        long next = queue.peek().deadline;
+        if (pending != null && pendingDeadline <= next) {
+            return;
+        }
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        long delay = Math.max(0, next - System.currentTimeMillis());
+        pending = executor.schedule(this::fire, delay, TimeUnit.MILLISECONDS);
+        pendingDeadline = next;
+    }
+
+    /**
+     * Checks if a heap entry no longer matches the deadline of its task.
+     * @param entry entry to be checked
+     * @return true if the entry should be skipped
+     */
+    private boolean isStale(Entry entry) {
+        Long deadline = deadlines.get(entry.task);
+        return deadline == null || deadline != entry.deadline;
+    }
+
+    /**
+     * Checks if a task should be swept when its deadline passes.
+     * @param task task to be checked
+     * @return true if the task is a leave, or is not done, not already overdue and not recurring
+     */
+    private static boolean isSwept(Task task) {
+        if (task instanceof Leave) {
+            return !task.getOverdue();
+        }
+        return !task.getDone() && !task.getOverdue() && !task.hasRecurring();
+    }
+
+    /**
+     * Returns the time a task is swept at: the end of a leave, or the deadline of any other task.
+     * @param task task to be checked
+     * @return time in epoch milliseconds
+     */
+    private static long getDeadline(Task task) {
+        if (task instanceof Leave) {
+            return ((Leave) task).getEndDate().getTime();
+        }
+        return task.getDate().getTime();
+    }
+
+    /**
+     * A task in the heap, together with its deadline.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private Task task;
+        private long deadline;
+
+        Entry(Task task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+}
@@ -5,11 +5,15 @@ import Enums.ExceptionType;
 import Enums.SortType;
 import Enums.TimeUnit;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.io.InputStream;
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
 import java.time.temporal.TemporalAdjusters;
 import java.util.Date;
 import java.util.Scanner;
@@ -19,12 +23,35 @@ import java.util.Scanner;
  * are properly formatted as parameters for other classes.
  */
 public class Parser {
-    private Scanner scanner = new Scanner(System.in);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d/M/uuuu H:m")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("H:m")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    private Scanner scanner;
+    private String line = "";
 
     /**
      * Constructor for the Parser object.
      */
     public Parser() {
+        this(System.in);
+    }
+
+    /**
+     * Constructor for the Parser object, reading commands from a given stream, such as a script.
+     * @param in the stream commands are read from
+     */
+    public Parser(InputStream in) {
+        scanner = new Scanner(in);
+    }
+
+    /**
+     * Checks if there is another command to be read.
+     * @return true if there is another command, false if the end of the input has been reached
+     */
+    public boolean hasCommand() {
+        return scanner.hasNext();
     }
 
     /**
@@ -40,7 +67,22 @@ public class Parser {
      * @return The line of command given by the user to RoomShare
      */
     public String getCommandLine() {
-        return scanner.nextLine().toLowerCase().trim();
+        line = scanner.nextLine().trim();
+        return line.toLowerCase().trim();
+    }
+
+    /**
+     * Returns part of the last line of command as the user typed it, before it was put in lower case.
+     * @param input the lower case part of the line, such as a file path
+     * @return the same part of the line in its original case, or the input itself if it cannot be found
+     */
+    public String getOriginalCase(String input) {
+        String lowerLine = line.toLowerCase();
+        int start = lowerLine.indexOf(input);
+        if (start == -1 || lowerLine.length() != line.length()) {
+            return input;
+        }
+        return line.substring(start, start + input.length());
     }
 
     /**
@@ -58,6 +100,20 @@ public class Parser {
         }
     }
 
+    /**
+     * Returns a number given by the user, such as a page number.
+     * @param input the number as entered by the user
+     * @return the number
+     * @throws RoomShareException when the input is not a whole number
+     */
+    public int getNumber(String input) throws RoomShareException {
+        try {
+            return Integer.parseInt(input.trim());
+        } catch (NumberFormatException e) {
+            throw new RoomShareException(ExceptionType.wrongIndexFormat);
+        }
+    }
+
     /**
      * Return the first/second/... index number requested by the user for command like 'reorder'.
      * @param input the input the user has entered
@@ -124,6 +180,16 @@ public class Parser {
         }
     }
 
+    /**
+     * Returns the date the user has entered for commands like 'away'.
+     * @param input the input the user has entered
+     * @return the date the user has entered
+     * @throws RoomShareException when the date is in the wrong format
+     */
+    public Date getDate(String input) throws RoomShareException {
+        return formatDate(input.trim());
+    }
+
     /**
      * Returns a Date object from a raw date that is stored as a String in any format.
      * @param by Input String containing the date information.
@@ -131,12 +197,11 @@ public class Parser {
      * @throws RoomShareException if the input is uninterpretable.
      */
     Date formatDate(String by) throws RoomShareException {
-        Date date;
-        if (this.formatDateTomorrowToday(by) != null) {
-            date = this.formatDateTomorrowToday(by);
-        } else if (this.formatDateByDay(by) != null) {
+        Date date = this.formatDateTomorrowToday(by);
+        if (date == null) {
             date = this.formatDateByDay(by);
-        } else {
+        }
+        if (date == null) {
             date = this.formatDateDDMMYY(by);
         }
         return date;
@@ -145,6 +210,8 @@ public class Parser {
 
     /**
      * Returns a Date object from a raw date that is stored as a String in a DD/MM/YYYY HH:MM format.
+     * Dates written exactly as dd/MM/yyyy HH:mm, such as the ones in the save file, are read directly
+     * without going through a formatter.
      * If the format of the input string is unacceptable, will throw a DukeException and will not return anything.
      * @param by Input String containing the date information.
      * @return A Date object containing the appropriately formatted date.
@@ -152,16 +219,57 @@ public class Parser {
      */
     public Date formatDateDDMMYY(String by) throws RoomShareException {
         try {
-            SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy HH:mm");
-            format.setLenient(false);
-            Date date = format.parse(by);
-            date.setSeconds(0);
-            return date;
-        } catch (ParseException | IndexOutOfBoundsException | IllegalArgumentException e2) {
+            LocalDateTime dateTime = parseFixedDate(by);
+            if (dateTime == null) {
+                dateTime = LocalDateTime.parse(by, DATE_FORMAT);
+            }
+            return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+        } catch (DateTimeException e) {
             throw new RoomShareException(ExceptionType.wrongDateFormat);
         }
     }
 
+    /**
+     * Reads a date written exactly as dd/MM/yyyy HH:mm, checking every digit by hand.
+     * @param by Input String containing the date information.
+     * @return the date and time, or null if the input is not laid out exactly as dd/MM/yyyy HH:mm
+     * @throws DateTimeException if the input is laid out correctly but is not a real date and time
+     */
+    private static LocalDateTime parseFixedDate(String by) {
+        if (by.length() != 16 || by.charAt(2) != '/' || by.charAt(5) != '/' || by.charAt(10) != ' '
+                || by.charAt(13) != ':') {
+            return null;
+        }
+        int day = twoDigits(by, 0);
+        int month = twoDigits(by, 3);
+        int year = twoDigits(by, 6) * 100 + twoDigits(by, 8);
+        int hour = twoDigits(by, 11);
+        int minute = twoDigits(by, 14);
+        if (day < 0 || month < 0 || year < 0 || hour < 0 || minute < 0) {
+            return null;
+        }
+        if (month < 1 || month > 12 || day < 1 || day > DAYS_IN_MONTH[month - 1] || hour > 23 || minute > 59) {
+            throw new DateTimeException("Invalid date: " + by);
+        }
+        // LocalDateTime.of rejects 29 February in years which are not leap years
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Reads two decimal digits from a String.
+     * @param by String to be read
+     * @param index position of the first digit
+     * @return the number formed by the two digits, or -1 if either character is not a digit
+     */
+    private static int twoDigits(String by, int index) {
+        int tens = by.charAt(index) - '0';
+        int ones = by.charAt(index + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
     /**
      * Returns a Date object from a raw date that is stored as a String with special key words like "tomorrow, today".
      * @param by Input String containing the date information.
@@ -172,16 +280,10 @@ public class Parser {
             Date date = new Date();
             String[] temp = by.split(" ");
             String day = temp[0];
-            String[] time = temp[1].trim().split(":");
-            // validate hours and minute
-            SimpleDateFormat format = new SimpleDateFormat("HH:mm");
-            format.setLenient(false);
-            format.parse(temp[1].trim());
-            // extract hours and minutes
-            int hours = Integer.parseInt(time[0]);
-            int minutes = Integer.parseInt(time[1]);
-            date.setHours(hours);
-            date.setMinutes(minutes);
+            // validate and extract hours and minutes
+            LocalTime time = LocalTime.parse(temp[1].trim(), TIME_FORMAT);
+            date.setHours(time.getHour());
+            date.setMinutes(time.getMinute());
             date.setSeconds(0);
             if (day.toLowerCase().equals("tomorrow") || day.toLowerCase().equals("tmr")) {
                 date.setDate(date.getDate() + 1);
@@ -191,7 +293,7 @@ public class Parser {
             } else {
                 return null;
             }
-        } catch (IndexOutOfBoundsException | IllegalArgumentException | ParseException e) {
+        } catch (IndexOutOfBoundsException | DateTimeException e) {
             return null;
         }
     }
@@ -208,9 +310,7 @@ public class Parser {
             Date outputDate;
             String[] temp = by.split(" ");
             // validate hours and minute
-            SimpleDateFormat format = new SimpleDateFormat("HH:mm");
-            format.setLenient(false);
-            format.parse(temp[2].trim());
+            LocalTime time = LocalTime.parse(temp[2].trim(), TIME_FORMAT);
             // Check if the user enter proper keyword "next" or "this"
             if (!temp[0].toLowerCase().equals("next") && !temp[0].toLowerCase().equals("this")) {
                 return null;
@@ -271,24 +371,22 @@ public class Parser {
             ZoneId defaultZoneId = ZoneId.systemDefault();
             outputDate = Date.from(date.atStartOfDay(defaultZoneId).toInstant());
             // Set hours and minute as specified
-            String[] time = temp[2].trim().split(":");
-            int hours = Integer.parseInt(time[0]);
-            int minutes = Integer.parseInt(time[1]);
-            outputDate.setHours(hours);
-            outputDate.setMinutes(minutes);
+            outputDate.setHours(time.getHour());
+            outputDate.setMinutes(time.getMinute());
             outputDate.setSeconds(0);
             return outputDate;
-        } catch (IndexOutOfBoundsException | IllegalArgumentException | ParseException e) {
+        } catch (IndexOutOfBoundsException | DateTimeException e) {
             return null;
         }
     }
 
     /**
      * Returns the keyword to be searched for.
+     * @param input the input the user has entered
      * @return key A string of the keyword to be searched for
      */
-    public String getKey() {
-        return scanner.nextLine().trim();
+    public String getKey(String input) {
+        return input.trim();
     }
 
     /**
@@ -320,12 +418,52 @@ public class Parser {
 
 
 
+    /**
+     * Returns the number of results asked for after the length of time in the input, such as the 5 in "2 hours 5".
+     * @param input the input the user has entered
+     * @param defaultCount the number of results to be returned when none is asked for
+     * @return the number of results
+     * @throws RoomShareException when the number is less than 1
+     */
+    public int getCount(String input, int defaultCount) throws RoomShareException {
+        String[] arr = input.trim().split(" ");
+        if (arr.length < 3 || !arr[2].matches("\\d+")) {
+            return defaultCount;
+        }
+        int count = getNumber(arr[2]);
+        if (count < 1) {
+            throw new RoomShareException(ExceptionType.outOfBounds);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the length of time specified at the start of the input, such as "2 hours".
+     * @param input the input the user has entered
+     * @return the length of time in milliseconds
+     * @throws RoomShareException when the amount or unit of time is invalid
+     */
+    public long getDuration(String input) throws RoomShareException {
+        try {
+            String[] arr = input.trim().split(" ");
+            int amount = Integer.parseInt(arr[0]);
+            TimeUnit unit = TimeUnit.valueOf(arr[1]);
+            if (amount <= 0 || unit.equals(TimeUnit.month) || unit.equals(TimeUnit.unDefined)) {
+                throw new RoomShareException(ExceptionType.wrongTimeFormat);
+            }
+            return CheckAnomaly.timeToMilSeconds(amount, unit);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new RoomShareException(ExceptionType.wrongTimeFormat);
+        }
+    }
+
     /**
      * Returns the index of the task and priority the user wants to set it to.
+     * @param input the input the user has entered
      * @return the index and priority of the task the user wants to set
      */
-    public String[] getPriority() {
-        return scanner.nextLine().trim().split(" ", 2);
+    public String[] getPriority(String input) {
+        return input.trim().split(" ", 2);
     }
 
     /**
@@ -0,0 +1,226 @@
+package Operations;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A set of words kept in a trie, with the number of times each word was added.
+ * Each node knows how many different words lie below it, so a prefix shared by only one word is resolved
+ * to that word by walking down the trie once. Each node also keeps the best completions found below it,
+ * which are updated along the path of a word as it is added or removed, so asking for the completions
+ * of a prefix only walks down to its node, taking O(prefix length + completions).
+ */
+public class PrefixTrie {
+    private static final int MAX_COMPLETIONS = 10;
+    private static final Comparator<Completion> ORDER = (a, b) -> a.count != b.count
+            ? Integer.compare(b.count, a.count) : a.word.compareTo(b.word);
+    private Node root = new Node();
+
+    private static class Node {
+        private TreeMap<Character, Node> children = new TreeMap<>();
+        private int count;
+        private int words;
+        private ArrayList<Completion> completions = new ArrayList<>();
+    }
+
+    /**
+     * A word below a node, with the number of times it was added.
+     */
+    private static class Completion {
+        private String word;
+        private int count;
+
+        private Completion(String word, int count) {
+            this.word = word;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Adds a word into the trie, or counts it once more if it is already in the trie.
+     * The word can only move up in the completions of the nodes along its path, so each of them is updated
+     * by moving the word into place.
+     * @param word word to be added
+     */
+    public void add(String word) {
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < word.length(); i++) {
+            path[i + 1] = path[i].children.computeIfAbsent(word.charAt(i), c -> new Node());
+        }
+        Node end = path[word.length()];
+        boolean isNew = end.count == 0;
+        end.count++;
+        Completion completion = new Completion(word, end.count);
+        for (Node node : path) {
+            if (isNew) {
+                node.words++;
+            }
+            promote(node, completion);
+        }
+    }
+
+    /**
+     * Counts a word once less, removing it from the trie when it is no longer counted.
+     * Does nothing if the word is not in the trie.
+     * The nodes along the path of the word which had it as a completion are updated from the bottom up,
+     * from their own word and the completions of their children.
+     * @param word word to be removed
+     */
+    public void remove(String word) {
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < word.length() && path[i] != null; i++) {
+            path[i + 1] = path[i].children.get(word.charAt(i));
+        }
+        Node end = path[word.length()];
+        if (end == null || end.count == 0) {
+            return;
+        }
+        end.count--;
+        boolean isGone = end.count == 0;
+        for (int i = word.length(); i >= 0; i--) {
+            Node node = path[i];
+            if (isGone) {
+                node.words--;
+            }
+            if (i < word.length() && path[i + 1].words == 0) {
+                node.children.remove(word.charAt(i));
+            }
+            if (indexOf(node.completions, word) != -1) {
+                refill(node, word.substring(0, i));
+            }
+        }
+    }
+
+    /**
+     * Removes every word from the trie.
+     */
+    public void clear() {
+        root = new Node();
+    }
+
+    /**
+     * Checks if a word is in the trie.
+     * @param word word to be checked
+     * @return true if the word has been added and not removed
+     */
+    public boolean contains(String word) {
+        Node node = find(word);
+        return node != null && node.count > 0;
+    }
+
+    /**
+     * Resolves a prefix to the word it stands for.
+     * @param prefix the prefix, which may also be a whole word
+     * @return the prefix itself if it is a word in the trie, the only word starting with the prefix if there is
+     *     exactly one, or null if there is no such word or more than one
+     */
+    public String resolve(String prefix) {
+        Node node = find(prefix);
+        if (node == null || node.words == 0) {
+            return null;
+        }
+        if (node.count > 0) {
+            return prefix;
+        }
+        if (node.words > 1) {
+            return null;
+        }
+        StringBuilder word = new StringBuilder(prefix);
+        while (node.count == 0) {
+            Map.Entry<Character, Node> child = node.children.firstEntry();
+            word.append(child.getKey());
+            node = child.getValue();
+        }
+        return word.toString();
+    }
+
+    /**
+     * Returns the words starting with a prefix, the most often added first, and otherwise in alphabetical order.
+     * At most ten words are returned.
+     * @param prefix the prefix
+     * @return the words starting with the prefix, empty if there are none
+     */
+    public ArrayList<String> complete(String prefix) {
+        ArrayList<String> words = new ArrayList<>();
+        Node node = find(prefix);
+        if (node != null) {
+            for (Completion completion : node.completions) {
+                words.add(completion.word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Moves a word whose count went up into place in the completions of a node, if it is among the best.
+     * @param node node whose completions are updated
+     * @param completion the word with its new count
+     */
+    private static void promote(Node node, Completion completion) {
+        ArrayList<Completion> completions = node.completions;
+        int index = indexOf(completions, completion.word);
+        if (index != -1) {
+            completions.remove(index);
+        }
+        index = 0;
+        while (index < completions.size() && ORDER.compare(completions.get(index), completion) < 0) {
+            index++;
+        }
+        if (index < MAX_COMPLETIONS) {
+            completions.add(index, completion);
+            if (completions.size() > MAX_COMPLETIONS) {
+                completions.remove(MAX_COMPLETIONS);
+            }
+        }
+    }
+
+    /**
+     * Works out the completions of a node again from its own word and the completions of its children,
+     * which are already up to date.
+     * @param node node whose completions are updated
+     * @param word the letters leading to the node
+     */
+    private static void refill(Node node, String word) {
+        ArrayList<Completion> candidates = new ArrayList<>();
+        if (node.count > 0) {
+            candidates.add(new Completion(word, node.count));
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.completions);
+        }
+        candidates.sort(ORDER);
+        node.completions = new ArrayList<>(candidates.subList(0, Math.min(candidates.size(), MAX_COMPLETIONS)));
+    }
+
+    /**
+     * Finds a word in a list of completions.
+     * @param completions list of completions
+     * @param word word to be found
+     * @return the index of the word, or -1 if it is not in the list
+     */
+    private static int indexOf(ArrayList<Completion> completions, String word) {
+        for (int i = 0; i < completions.size(); i++) {
+            if (completions.get(i).word.equals(word)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the node reached by following the letters of a prefix.
+     * @param prefix the prefix
+     * @return the node, or null if no word starts with the prefix
+     */
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+}
@@ -0,0 +1,56 @@
+package Operations;
+
+import Enums.Priority;
+import Model_Classes.Leave;
+import Model_Classes.Task;
+
+/**
+ * Raises the priority of tasks as their deadlines come near, without changing the priority set by the user.
+ * The raised priority is worked out from the date of the task whenever the list is sorted or shown,
+ * so nothing has to go through the list to update priorities as time passes.
+ * Tasks that are done, and leaves, keep their own priority.
+ */
+public class PriorityAging {
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+    private long mediumWithin;
+    private long highWithin;
+
+    /**
+     * Constructor for the PriorityAging class.
+     * Tasks become at least medium priority 3 days before their deadline, and high priority 1 day before.
+     */
+    public PriorityAging() {
+        this(3 * DAY, DAY);
+    }
+
+    /**
+     * Constructor for the PriorityAging class.
+     * @param mediumWithin time in milliseconds before the deadline at which a task becomes at least medium priority
+     * @param highWithin time in milliseconds before the deadline at which a task becomes high priority
+     */
+    public PriorityAging(long mediumWithin, long highWithin) {
+        this.mediumWithin = mediumWithin;
+        this.highWithin = highWithin;
+    }
+
+    /**
+     * Returns the priority of a task at a given time.
+     * @param task task to be checked
+     * @param now time in epoch milliseconds
+     * @return the priority set by the user, or a higher one if the deadline of the task is near
+     */
+    public Priority getPriority(Task task, long now) {
+        Priority priority = task.getPriority();
+        if (task.getDone() || task instanceof Leave) {
+            return priority;
+        }
+        long timeLeft = task.getDate().getTime() - now;
+        if (timeLeft <= highWithin) {
+            return Priority.high;
+        } else if (timeLeft <= mediumWithin && priority.equals(Priority.low)) {
+            return Priority.medium;
+        } else {
+            return priority;
+        }
+    }
+}
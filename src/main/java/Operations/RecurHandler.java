@@ -1,26 +1,23 @@
 package Operations;
 
 import CustomExceptions.RoomShareException;
-import Enums.RecurrenceScheduleType;
 import Model_Classes.Assignment;
 import Model_Classes.Meeting;
+import Model_Classes.RecurrenceRule;
 import Model_Classes.Task;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Calendar;
+import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.Date;
 
 /**
  * This class deals with operations for Recurring Tasks.
- * will perform operations such as add, list, find
- * also checks for recurrence of tasks
+ * Works out when the next occurrence of a recurring task is, and moves the task forward to it.
+ * Deciding when tasks are due is left to the RecurrenceScheduler.
  */
 public class RecurHandler {
-    public static final String DATE_ERROR_SET_AS_NOT_DONE = "Error in parsing date, will be setting the task "
-            + "to not done instead";
     private TaskList taskList;
-    private Parser parser = new Parser();
+    private boolean isRecordingMissed = true;
 
     /**
      * Constructor for RecurHandler class.
@@ -31,100 +28,74 @@ public class RecurHandler {
     }
 
     /**
-     * Checks for recurrences based on the date.
-     * if there is a recurrence, replaces the old recurring task with a new one
-     * new recurring task will have an updated recurrence date.
-     * Returns a boolean value that determines if there was any recurrence triggered.
-     * @return A boolean value where true indicates a recurrence was triggered, and false being otherwise.
+     * Sets whether occurrences that passed without being done are recorded in the overdue list.
+     * @param isOn true to record missed occurrences
      */
-    public boolean checkRecurrence() throws RoomShareException {
-        LocalDateTime now = LocalDateTime.now();
-        DateTimeFormatter dateTimeFormatterNow = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        String currentTime = now.format(dateTimeFormatterNow);
-        int index = 0;
-        boolean isEdited = false;
-        for (Task check : TaskList.getCurrentList()) {
-            if (check.hasRecurring()) {
-                // task is a recurring task
-                RecurrenceScheduleType type;
-                String description = check.getDescription();
-                type = check.getRecurrenceSchedule();
-                // check if recurrence date has passed
-                if (dateHasPassedOthers(currentTime, check, isEdited)) {
-                    if (check instanceof Assignment) {
-                        Assignment recurringAssignment = new Assignment(description, getNewDate(check));
-                        recurringAssignment.setRecurrenceSchedule(type);
-                        recurringAssignment.setPriority(check.getPriority());
-                        recurringAssignment.setAssignee(check.getAssignee());
-                        taskList.replace(index, recurringAssignment);
-                        isEdited = true;
-                    } else {
-                        Meeting recurringMeeting = new Meeting(description, getNewDate(check));
-                        recurringMeeting.setRecurrenceSchedule(type);
-                        recurringMeeting.setPriority(check.getPriority());
-                        recurringMeeting.setAssignee(check.getAssignee());
-                        taskList.replace(index, recurringMeeting);
-                        isEdited = true;
-                    }
-                }
-            }
-            // move on to next item in the task list
-            index += 1;
-        }
-        return isEdited;
+    public void setRecordingMissed(boolean isOn) {
+        isRecordingMissed = isOn;
     }
 
     /**
-     * Returns a new Date object with the date stored in the task object class
-     * If any error occurs, the Date object will be set to the current date instead.
-     * @param check Task object containing the Date information to be extracted
-     * @return newDate, containing a the date information of the task object class.
+     * Moves a recurring task forward to its first occurrence after the given time.
+     * The occurrences skipped are worked out from the recurrence rule of the task in a fixed number of steps,
+     * so a task left alone for months catches up at once instead of moving forward one occurrence at a time.
+     * Works on the time and zone stored in the task, without formatting or parsing any strings.
+     * The same task object is kept, and the task is set to not done for the new occurrence.
+     * If recording is turned on, the occurrences that were skipped without being done are recorded
+     * as a single overdue task, dated at the earliest of them.
+     * If the rule has no occurrences left, the task stops recurring and is set to done.
+     * @param task recurring task to be moved forward
+     * @param now time to move the task past
+     * @return number of missed occurrences recorded
+     * @throws RoomShareException when the task cannot be set to done or not done
      */
-    private Date getNewDate(Task check) {
-        Date newDate = new Date();
-        try {
-            Calendar calendar = Calendar.getInstance();
-            String date = new Storage().convertForStorage(check);
-            date = date.substring(0, 15);
-            Date storedDate = parser.formatDateDDMMYY(date);
-            calendar.setTime(storedDate);
-            if (check.getRecurrenceSchedule().equals(RecurrenceScheduleType.day)) {
-                calendar.add(Calendar.DAY_OF_MONTH, 1);
-            } else if (check.getRecurrenceSchedule().equals(RecurrenceScheduleType.week)) {
-                calendar.add(Calendar.WEEK_OF_MONTH, 1);
-            } else {
-                calendar.add(Calendar.MONTH, 1);
-            }
-            newDate = calendar.getTime();
-        } catch (RoomShareException e) {
-            System.out.println();
+    public int rollOver(Task task, Instant now) throws RoomShareException {
+        RecurrenceRule rule = task.getRecurrenceRule();
+        ZonedDateTime date = task.getDateTime();
+        ZonedDateTime current = now.atZone(date.getZone());
+        ZonedDateTime next = rule.next(date, current);
+        long passed = rule.countBefore(date, next == null ? current.plusNanos(1) : next);
+        long missed = task.getDone() ? passed - 1 : passed;
+        int recorded = 0;
+        if (isRecordingMissed && missed > 0) {
+            ZonedDateTime firstMissed = task.getDone() ? rule.next(date, date) : date;
+            OverdueList.getOverdueList().add(createMissed(task, Date.from(firstMissed.toInstant()), missed));
+            recorded = (int) Math.min(missed, Integer.MAX_VALUE);
+        }
+        if (next == null) {
+            task.setRecurrenceRule(null);
+            task.setDone(true);
+            return recorded;
         }
-        return newDate;
+        if (rule.getCount() > 0) {
+            task.setRecurrenceRule(rule.withCount((int) (rule.getCount() - passed)));
+        }
+        task.setDateTime(next);
+        task.setDone(false);
+        return recorded;
     }
 
     /**
-     * checks if the recurrence date has passed for a Meeting or Assignment object
-     * if date has passed, returns true
-     * if date has not passed, returns false.
-     * @param currentTime current time of the system as a string
-     * @param check Task to be time checked
-     * @param isEdited boolean variable describing if the task list has been edited in anyway
-     * @return isPassed boolean variable describing if the recurrence date has been passed.
+     * Creates the overdue record of the missed occurrences of a recurring task.
+     * @param task recurring task whose occurrences were missed
+     * @param date date of the earliest missed occurrence
+     * @param missed number of missed occurrences
+     * @return a task that is not recurring, marked as overdue
      */
-    private boolean dateHasPassedOthers(String currentTime, Task check, boolean isEdited) throws RoomShareException {
-        boolean isPassed = false;
-        try {
-            Date current = parser.formatDateDDMMYY(currentTime);
-            Date newDate = getNewDate(check);
-            if (newDate.compareTo(current) < 0) {
-                // date has passed
-                isPassed = true;
-            }
-        } catch (RoomShareException e) {
-            System.out.println(DATE_ERROR_SET_AS_NOT_DONE);
-            check.setDone(false);
-            isEdited = true;
+    private static Task createMissed(Task task, Date date, long missed) {
+        String description = task.getDescription();
+        if (missed > 1) {
+            description += " (missed " + missed + " times)";
+        }
+        Task record;
+        if (task instanceof Assignment) {
+            record = new Assignment(description, date);
+        } else {
+            record = new Meeting(description, date);
         }
-        return isPassed;
+        record.setPriority(task.getPriority());
+        record.setAssignee(task.getAssignee());
+        record.setOverdue(true);
+        return record;
     }
 }
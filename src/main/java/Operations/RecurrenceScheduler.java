@@ -0,0 +1,248 @@
+package Operations;
+
+import CustomExceptions.RoomShareException;
+import Model_Classes.Leave;
+import Model_Classes.Task;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rolls recurring tasks forward to their next occurrence while RoomShare is running.
+ * Recurring tasks are kept in a min-heap keyed by the time their current occurrence comes due,
+ * and a single timer thread wakes up at the earliest of these times.
+ * Only the tasks that are due are touched, each costing O(log n).
+ * Tasks that are changed or removed are not searched for in the heap: their old entries are
+ * recognised as stale and skipped when they reach the top.
+ */
+public class RecurrenceScheduler {
+    private RecurHandler recurHandler;
+    private Runnable onRollOver;
+    private PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private IdentityHashMap<Task, Long> triggers = new IdentityHashMap<>();
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> pending;
+    private long pendingTrigger = Long.MAX_VALUE;
+    private int missedRecorded;
+
+    /**
+     * Constructor for the RecurrenceScheduler class.
+     * @param recurHandler recur handler used to move tasks to their next occurrence
+     * @param onRollOver action run on the timer thread, while holding the task list lock,
+     *                   after tasks have been rolled over
+     */
+    public RecurrenceScheduler(RecurHandler recurHandler, Runnable onRollOver) {
+        this.recurHandler = recurHandler;
+        this.onRollOver = onRollOver;
+    }
+
+    /**
+     * Tracks every recurring task in a list, rolls over the ones already due and starts the timer.
+     * The heap is built in a single O(n) pass.
+     * @param tasks list of tasks to be tracked
+     * @return true if any task was rolled over
+     */
+    public boolean start(ArrayList<Task> tasks) {
+        synchronized (TaskList.getLock()) {
+            ArrayList<Entry> entries = new ArrayList<>();
+            for (Task task : tasks) {
+                if (isRecurring(task)) {
+                    long trigger = task.getDate().getTime();
+                    triggers.put(task, trigger);
+                    entries.add(new Entry(task, trigger));
+                }
+            }
+            queue = new PriorityQueue<>(entries);
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "recurrence-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            return checkDue();
+        }
+    }
+
+    /**
+     * Starts tracking a task, or updates the trigger time of a task already tracked.
+     * Tasks that are not recurring, or no longer recurring, stop being tracked.
+     * @param task task which was added or changed
+     */
+    public void track(Task task) {
+        synchronized (TaskList.getLock()) {
+            triggers.remove(task);
+            if (isRecurring(task)) {
+                long trigger = task.getDate().getTime();
+                triggers.put(task, trigger);
+                queue.add(new Entry(task, trigger));
+            }
+            reschedule();
+        }
+    }
+
+    /**
+     * Stops tracking a task, such as one that was deleted.
+     * @param task task to stop tracking
+     */
+    public void cancel(Task task) {
+        synchronized (TaskList.getLock()) {
+            triggers.remove(task);
+        }
+    }
+
+    /**
+     * Rolls over every tracked task that is due, and arms the timer for the next one.
+     * Also called before each command, in case the timer was held up, such as by the computer sleeping.
+     * @return true if any task was rolled over
+     */
+    public boolean checkDue() {
+        synchronized (TaskList.getLock()) {
+            boolean isRolled = rollOverDue(System.currentTimeMillis()) > 0;
+            if (isRolled) {
+                TaskList.sortTasks();
+            }
+            reschedule();
+            return isRolled;
+        }
+    }
+
+    /**
+     * Returns the number of missed occurrences recorded in the overdue list since this was last called.
+     * @return number of missed occurrences recorded
+     */
+    public int takeMissedRecorded() {
+        synchronized (TaskList.getLock()) {
+            int count = missedRecorded;
+            missedRecorded = 0;
+            return count;
+        }
+    }
+
+    /**
+     * Stops the timer thread.
+     */
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of tasks being tracked.
+     * @return number of tracked tasks
+     */
+    public int size() {
+        synchronized (TaskList.getLock()) {
+            return triggers.size();
+        }
+    }
+
+    /**
+     * Rolls over the tasks whose trigger time is not after the given time.
+     * @param now current time in milliseconds
+     * @return number of tasks rolled over
+     */
+    int rollOverDue(long now) {
+        int count = 0;
+        while (!queue.isEmpty() && queue.peek().trigger <= now) {
+            Entry entry = queue.poll();
+            if (isStale(entry)) {
+                continue;
+            }
+            Task task = entry.task;
+            triggers.remove(task);
+            if (task.getOverdue()) {
+                continue;
+            }
+            try {
+                missedRecorded += recurHandler.rollOver(task, Instant.ofEpochMilli(now));
+            } catch (RoomShareException e) {
+                continue;
+            }
+            TaskList.reindex(task);
+            if (task.getDate().getTime() > entry.trigger) {
+                triggers.put(task, task.getDate().getTime());
+                queue.add(new Entry(task, task.getDate().getTime()));
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Runs on the timer thread when the earliest trigger time is reached.
+     */
+    private void fire() {
+        synchronized (TaskList.getLock()) {
+            pending = null;
+            pendingTrigger = Long.MAX_VALUE;
+            if (checkDue()) {
+                onRollOver.run();
+            }
+        }
+    }
+
+    /**
+     * Arms the timer for the earliest live trigger time, unless it is already armed for an earlier time.
+     */
+    private void reschedule() {
+        while (!queue.isEmpty() && isStale(queue.peek())) {
+            queue.poll();
+        }
+        if (executor == null || queue.isEmpty()) {
+            return;
+        }
+        long next = queue.peek().trigger;
+        if (pending != null && pendingTrigger <= next) {
+            return;
+        }
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        long delay = Math.max(0, next - System.currentTimeMillis());
+        pending = executor.schedule(this::fire, delay, TimeUnit.MILLISECONDS);
+        pendingTrigger = next;
+    }
+
+    /**
+     * Checks if a heap entry no longer matches the trigger time of its task.
+     * @param entry entry to be checked
+     * @return true if the entry should be skipped
+     */
+    private boolean isStale(Entry entry) {
+        Long trigger = triggers.get(entry.task);
+        return trigger == null || trigger != entry.trigger;
+    }
+
+    /**
+     * Checks if a task should be rolled over by the scheduler. Leaves are not rolled over.
+     * @param task task to be checked
+     * @return true if the task recurs
+     */
+    private static boolean isRecurring(Task task) {
+        return task.hasRecurring() && !(task instanceof Leave);
+    }
+
+    /**
+     * A recurring task in the heap, together with the time its current occurrence comes due.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private Task task;
+        private long trigger;
+
+        Entry(Task task, long trigger) {
+            this.task = task;
+            this.trigger = trigger;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(trigger, other.trigger);
+        }
+    }
+}
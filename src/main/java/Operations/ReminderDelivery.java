@@ -0,0 +1,101 @@
+package Operations;
+
+import Model_Classes.Task;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shows the reminders of tasks to the user as they come due.
+ * Reminders are put in a bounded queue, which is emptied by a single delivery thread.
+ * Reminders which come due within a short window of each other are shown together, with a single beep,
+ * while holding the task list lock, so they are never printed in the middle of the output of a command.
+ * If the queue is full, further reminders are counted instead of being kept, and the count is shown instead.
+ */
+public class ReminderDelivery {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final long DEFAULT_WINDOW = 500;
+    private Ui ui;
+    private BlockingQueue<Task> queue;
+    private long window;
+    private AtomicInteger dropped = new AtomicInteger();
+    private Thread thread;
+
+    /**
+     * Constructor for the ReminderDelivery class.
+     * @param ui ui used to show the reminders
+     */
+    public ReminderDelivery(Ui ui) {
+        this(ui, DEFAULT_CAPACITY, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Constructor for the ReminderDelivery class.
+     * @param ui ui used to show the reminders
+     * @param capacity most reminders to be kept waiting to be shown
+     * @param window time in milliseconds to wait for more reminders after the first, before showing them
+     */
+    public ReminderDelivery(Ui ui, int capacity, long window) {
+        this.ui = ui;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.window = window;
+    }
+
+    /**
+     * Starts the delivery thread, which does not keep the program running on its own.
+     */
+    public void start() {
+        thread = new Thread(this::deliver, "reminder-delivery");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the delivery thread. Reminders which are still waiting are not shown.
+     */
+    public void stop() {
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Adds the reminder of a task to be shown. Never waits, so it is safe to call from the timer thread.
+     * @param task task whose reminder is due
+     */
+    public void offer(Task task) {
+        if (!queue.offer(task)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Runs on the delivery thread, showing each batch of reminders as it is collected.
+     */
+    private void deliver() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ArrayList<Task> batch = new ArrayList<>();
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(window);
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    Task task = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (task == null) {
+                        break;
+                    }
+                    batch.add(task);
+                }
+                queue.drainTo(batch);
+                synchronized (TaskList.getLock()) {
+                    ui.showReminders(batch, dropped.getAndSet(0));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package Operations;
+
+import Model_Classes.Task;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs the reminders of tasks at their set times, using a single timer thread for every reminder.
+ * Pending reminders are kept in a min-heap keyed by their time, and the timer wakes up only at the earliest.
+ * The reminder time of a task is stored in the task itself, so it is saved with the task and tracked again
+ * when RoomShare starts.
+ * Each task has at most one pending reminder, and setting a new one cancels the old one.
+ * Cancelled reminders are not searched for in the heap: they are skipped when they reach the top.
+ * Reminder actions run on virtual threads when the Java runtime has them, and on the timer thread otherwise.
+ */
+public class ReminderService {
+    private Consumer<Task> onReminder;
+    private PriorityQueue<Reminder> queue = new PriorityQueue<>();
+    private IdentityHashMap<Task, Reminder> reminders = new IdentityHashMap<>();
+    private ScheduledExecutorService timer;
+    private ExecutorService callbacks;
+    private ScheduledFuture<?> pending;
+    private long pendingTime = Long.MAX_VALUE;
+
+    /**
+     * Constructor for the ReminderService class.
+     * Starts the timer thread, which does not keep the program running on its own.
+     * @param onReminder action run when the reminder of a task is due, after the reminder is removed from the task
+     */
+    public ReminderService(Consumer<Task> onReminder) {
+        this.onReminder = onReminder;
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        callbacks = createVirtualThreadExecutor();
+    }
+
+    /**
+     * Tracks the reminders of every task in a list, such as the tasks loaded when RoomShare starts.
+     * The heap is built in a single O(n) pass. Reminders whose time has already passed are not run one by one,
+     * but removed from their tasks and returned, so they can be shown together.
+     * @param tasks list of tasks to be tracked
+     * @return tasks whose reminders were missed, in order of their reminder time
+     */
+    public ArrayList<Task> start(ArrayList<Task> tasks) {
+        ArrayList<Reminder> missed = new ArrayList<>();
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            ArrayList<Reminder> entries = new ArrayList<>();
+            for (Task task : tasks) {
+                if (task.getReminder() == null) {
+                    continue;
+                }
+                Reminder reminder = createReminder(task, task.getReminder().getTime());
+                Reminder old = reminders.put(task, reminder);
+                if (old != null) {
+                    old.isCancelled = true;
+                }
+                if (reminder.time <= now) {
+                    reminders.remove(task);
+                    missed.add(reminder);
+                } else {
+                    entries.add(reminder);
+                }
+            }
+            entries.addAll(queue);
+            queue = new PriorityQueue<>(entries);
+            reschedule();
+        }
+        Collections.sort(missed);
+        ArrayList<Task> missedTasks = new ArrayList<>();
+        for (Reminder reminder : missed) {
+            reminder.task.setReminder(null);
+            missedTasks.add(reminder.task);
+        }
+        return missedTasks;
+    }
+
+    /**
+     * Starts tracking the reminder of a task, or updates it if the task was changed.
+     * A task without a reminder has its pending reminder, if any, cancelled.
+     * @param task task which was added or changed
+     */
+    public synchronized void track(Task task) {
+        if (task.getReminder() == null) {
+            cancel(task);
+            return;
+        }
+        long time = task.getReminder().getTime();
+        Reminder current = reminders.get(task);
+        if (current != null && current.time == time) {
+            return;
+        }
+        add(createReminder(task, time));
+    }
+
+    /**
+     * Sets the reminder of a task, replacing any reminder the task already has.
+     * @param task task the reminder belongs to
+     * @param time time to run the reminder, in epoch milliseconds
+     * @param action action to run at that time
+     * @return handle which can be used to cancel the reminder
+     */
+    public synchronized Reminder schedule(Task task, long time, Runnable action) {
+        Reminder reminder = new Reminder(task, time, action);
+        add(reminder);
+        return reminder;
+    }
+
+    /**
+     * Cancels the pending reminder of a task, such as one that was deleted.
+     * @param task task whose reminder is to be cancelled
+     * @return true if the task had a pending reminder
+     */
+    public synchronized boolean cancel(Task task) {
+        Reminder reminder = reminders.remove(task);
+        if (reminder == null) {
+            return false;
+        }
+        reminder.isCancelled = true;
+        return true;
+    }
+
+    /**
+     * Returns the pending reminder of a task.
+     * @param task task to be checked
+     * @return the pending reminder, or null if the task has none
+     */
+    public synchronized Reminder getReminder(Task task) {
+        return reminders.get(task);
+    }
+
+    /**
+     * Returns the number of pending reminders.
+     * @return number of pending reminders
+     */
+    public synchronized int size() {
+        return reminders.size();
+    }
+
+    /**
+     * Stops the timer thread. Reminders which are still pending are not run.
+     */
+    public void stop() {
+        timer.shutdownNow();
+        if (callbacks != null) {
+            callbacks.shutdown();
+        }
+    }
+
+    /**
+     * Adds a reminder to the heap, cancelling the pending reminder of the same task.
+     * @param reminder reminder to be added
+     */
+    private void add(Reminder reminder) {
+        Reminder old = reminders.put(reminder.task, reminder);
+        if (old != null) {
+            old.isCancelled = true;
+        }
+        queue.add(reminder);
+        reschedule();
+    }
+
+    /**
+     * Creates the reminder of a task which removes the reminder from the task when it is due,
+     * unless the task was given a different reminder in the meantime.
+     * @param task task the reminder belongs to
+     * @param time time of the reminder, in epoch milliseconds
+     * @return the reminder
+     */
+    private Reminder createReminder(Task task, long time) {
+        return new Reminder(task, time, () -> {
+            synchronized (TaskList.getLock()) {
+                if (task.getReminder() == null || task.getReminder().getTime() != time) {
+                    return;
+                }
+                task.setReminder(null);
+            }
+            onReminder.accept(task);
+        });
+    }
+
+    /**
+     * Runs on the timer thread when the earliest reminder time is reached.
+     */
+    private void fire() {
+        ArrayList<Reminder> due = new ArrayList<>();
+        synchronized (this) {
+            pending = null;
+            pendingTime = Long.MAX_VALUE;
+            long now = System.currentTimeMillis();
+            while (!queue.isEmpty() && queue.peek().time <= now) {
+                Reminder reminder = queue.poll();
+                if (!reminder.isCancelled) {
+                    reminders.remove(reminder.task);
+                    due.add(reminder);
+                }
+            }
+            reschedule();
+        }
+        for (Reminder reminder : due) {
+            if (callbacks == null) {
+                reminder.action.run();
+            } else {
+                callbacks.execute(reminder.action);
+            }
+        }
+    }
+
+    /**
+     * Arms the timer for the earliest pending reminder, unless it is already armed for an earlier time.
+     */
+    private void reschedule() {
+        while (!queue.isEmpty() && queue.peek().isCancelled) {
+            queue.poll();
+        }
+        if (queue.isEmpty() || timer.isShutdown()) {
+            return;
+        }
+        long next = queue.peek().time;
+        if (pending != null && pendingTime <= next) {
+            return;
+        }
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        long delay = Math.max(0, next - System.currentTimeMillis());
+        pending = timer.schedule(this::fire, delay, TimeUnit.MILLISECONDS);
+        pendingTime = next;
+    }
+
+    /**
+     * Creates an executor which starts a virtual thread for each action.
+     * Looked up by reflection, as virtual threads are only in newer Java runtimes.
+     * @return the executor, or null if virtual threads are not available
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A pending reminder of a task, ordered by its time.
+     */
+    public static class Reminder implements Comparable<Reminder> {
+        private Task task;
+        private long time;
+        private Runnable action;
+        private volatile boolean isCancelled;
+
+        private Reminder(Task task, long time, Runnable action) {
+            this.task = task;
+            this.time = time;
+            this.action = action;
+        }
+
+        public Task getTask() {
+            return task;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+
+        @Override
+        public int compareTo(Reminder other) {
+            return Long.compare(time, other.time);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package Operations;
+
+import Model_Classes.Leave;
+import Model_Classes.Meeting;
+import Model_Classes.Task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An ordered index of the time intervals that are already booked by meetings and leaves.
+ * Overlapping intervals are merged, so looking up whether a time is free takes O(log n).
+ * The intervals as they were booked are kept as well, so an interval can be unbooked again
+ * by merging only the intervals of the block it was part of.
+ */
+public class ScheduleIndex {
+    private static final long MINUTE = 60 * 1000;
+    private TreeMap<Long, Long> booked = new TreeMap<>();
+    private TreeMap<Long, ArrayList<Long>> intervals = new TreeMap<>();
+
+    /**
+     * Builds the index of booked intervals from a list of tasks.
+     * Only meetings and leaves take up time. If an assignee is specified, only the meetings of the assignee
+     * or of everyone, and the leaves of the assignee, are included.
+     * @param tasks list of tasks to be indexed
+     * @param assignee person whose schedule is indexed, or "everyone" to index every meeting and leave
+     * @return the index of booked intervals
+     */
+    public static ScheduleIndex build(ArrayList<Task> tasks, String assignee) {
+        ScheduleIndex index = new ScheduleIndex();
+        boolean isEveryone = assignee.equals("everyone");
+        for (Task task : tasks) {
+            boolean isInvolved = isEveryone || task.getAssignee().equals(assignee)
+                    || (!(task instanceof Leave) && task.getAssignee().equals("everyone"));
+            if (!isInvolved) {
+                continue;
+            }
+            if (task instanceof Meeting || task instanceof Leave) {
+                index.book(getStart(task), getEnd(task));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the start of the time interval taken up by a meeting or leave.
+     * @param task meeting or leave to be checked
+     * @return start time in milliseconds
+     */
+    static long getStart(Task task) {
+        if (task instanceof Leave) {
+            return ((Leave) task).getStartDate().getTime();
+        }
+        return task.getDate().getTime() / MINUTE * MINUTE;
+    }
+
+    /**
+     * Returns the end of the time interval taken up by a meeting or leave.
+     * Meetings without a fixed duration take up a single minute.
+     * @param task meeting or leave to be checked
+     * @return end time in milliseconds
+     */
+    static long getEnd(Task task) {
+        if (task instanceof Leave) {
+            return ((Leave) task).getEndDate().getTime();
+        }
+        Meeting meeting = (Meeting) task;
+        if (meeting.isFixedDuration()) {
+            long duration = CheckAnomaly.timeToMilSeconds(Long.parseLong(meeting.getDuration()),
+                    meeting.getTimeUnit());
+            return meeting.getDate().getTime() + Math.max(duration, MINUTE);
+        }
+        return getStart(task) + MINUTE;
+    }
+
+    /**
+     * Books a time interval, merging it with any booked interval it overlaps or touches.
+     * @param start start time in milliseconds
+     * @param end end time in milliseconds
+     */
+    public void book(long start, long end) {
+        if (end <= start) {
+            return;
+        }
+        intervals.computeIfAbsent(start, k -> new ArrayList<>()).add(end);
+        merge(start, end);
+    }
+
+    /**
+     * Unbooks a time interval which was booked before.
+     * The merged block it was part of is taken apart, and only the intervals in that block are merged again.
+     * @param start start time in milliseconds
+     * @param end end time in milliseconds
+     */
+    public void unbook(long start, long end) {
+        ArrayList<Long> ends = intervals.get(start);
+        if (ends == null || !ends.remove(Long.valueOf(end))) {
+            return;
+        }
+        if (ends.isEmpty()) {
+            intervals.remove(start);
+        }
+        Map.Entry<Long, Long> block = booked.floorEntry(start);
+        booked.remove(block.getKey());
+        for (Map.Entry<Long, ArrayList<Long>> entry
+                : intervals.subMap(block.getKey(), true, block.getValue(), true).entrySet()) {
+            for (long intervalEnd : entry.getValue()) {
+                merge(entry.getKey(), intervalEnd);
+            }
+        }
+    }
+
+    /**
+     * Merges a time interval into the booked blocks it overlaps or touches.
+     * @param start start time in milliseconds
+     * @param end end time in milliseconds
+     */
+    private void merge(long start, long end) {
+        Map.Entry<Long, Long> before = booked.floorEntry(start);
+        if (before != null && before.getValue() >= start) {
+            start = before.getKey();
+            end = Math.max(end, before.getValue());
+        }
+        Map.Entry<Long, Long> after = booked.ceilingEntry(start);
+        while (after != null && after.getKey() <= end) {
+            end = Math.max(end, after.getValue());
+            booked.remove(after.getKey());
+            after = booked.higherEntry(start);
+        }
+        booked.put(start, end);
+    }
+
+    /**
+     * Checks if a time interval does not overlap any booked interval.
+     * @param start start time in milliseconds
+     * @param end end time in milliseconds
+     * @return true if the whole interval is free
+     */
+    public boolean isFree(long start, long end) {
+        Map.Entry<Long, Long> before = booked.floorEntry(start);
+        if (before != null && before.getValue() > start) {
+            return false;
+        }
+        Long next = booked.higherKey(start);
+        return next == null || next >= end;
+    }
+
+    /**
+     * Finds the next free windows of a given length, starting from a given time.
+     * Windows are placed back to back within each free gap, starting at whole minutes.
+     * Each window found costs O(log n), regardless of how many intervals are booked before it.
+     * @param after time to start searching from
+     * @param duration length of each window in milliseconds
+     * @param count number of windows to be found
+     * @return list of windows, each as an array of its start and end date
+     */
+    public ArrayList<Date[]> findSlots(Date after, long duration, int count) {
+        return findSlots(Collections.singletonList(this), after, duration, count);
+    }
+
+    /**
+     * Finds the next free windows of a given length which are free in all of the given indexes,
+     * such as the meetings of a person and the leaves of the person, without merging the indexes first.
+     * Each window found costs O(k log n) for k indexes.
+     * @param schedules indexes of booked intervals to be checked
+     * @param after time to start searching from
+     * @param duration length of each window in milliseconds
+     * @param count number of windows to be found
+     * @return list of windows, each as an array of its start and end date
+     */
+    public static ArrayList<Date[]> findSlots(List<ScheduleIndex> schedules, Date after, long duration, int count) {
+        ArrayList<Date[]> slots = new ArrayList<>();
+        long cursor = (after.getTime() + MINUTE - 1) / MINUTE * MINUTE;
+        while (slots.size() < count) {
+            cursor = skipBooked(schedules, cursor);
+            long next = Long.MAX_VALUE;
+            for (ScheduleIndex schedule : schedules) {
+                Long start = schedule.booked.ceilingKey(cursor);
+                if (start != null) {
+                    next = Math.min(next, start);
+                }
+            }
+            if (next - cursor >= duration) {
+                slots.add(new Date[]{new Date(cursor), new Date(cursor + duration)});
+                cursor += duration;
+            } else {
+                cursor = next;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Moves a time past the booked intervals it falls in, in any of the given indexes.
+     * @param schedules indexes of booked intervals to be checked
+     * @param time time in milliseconds
+     * @return the earliest time not before the given time which is not booked in any of the indexes
+     */
+    private static long skipBooked(List<ScheduleIndex> schedules, long time) {
+        boolean isMoved = true;
+        while (isMoved) {
+            isMoved = false;
+            for (ScheduleIndex schedule : schedules) {
+                Map.Entry<Long, Long> current = schedule.booked.floorEntry(time);
+                if (current != null && current.getValue() > time) {
+                    time = current.getValue();
+                    isMoved = true;
+                }
+            }
+        }
+        return time;
+    }
+
+    /**
+     * Returns the number of disjoint booked intervals in the index.
+     * @return number of booked intervals
+     */
+    public int size() {
+        return booked.size();
+    }
+}
@@ -0,0 +1,251 @@
+package Operations;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Draws the screen shown around commands with ANSI escape sequences, instead of clearing the terminal.
+ * Everything printed while a frame is drawn is caught, and compared line by line with the frame drawn before it,
+ * so only the lines which changed, such as a task marked done and the progress bar, are written again,
+ * in a single write. Each line written again starts with the color it inherits from the lines above it,
+ * as lines such as completed tasks do not set a color of their own.
+ * The whole screen is only cleared for the first frame, and when the frame drawn before may have been scrolled
+ * out of place, either because it did not fit in the terminal, or because too much was printed below it since.
+ * When the output is not a terminal, frames are printed as they are.
+ */
+public class Screen {
+    private static final String ESC = "\u001b[";
+    private static final String CLEAR_SCREEN = ESC + "H" + ESC + "2J";
+    private static final String CLEAR_LINE = ESC + "2K";
+    private static final String CLEAR_BELOW = ESC + "J";
+    private static final String RESET_COLOR = ESC + "0m";
+    private static final Pattern COLOR_CODE = Pattern.compile("\u001b\\[[0-9;]*m");
+    private static final int TAB_WIDTH = 8;
+    private static final int DEFAULT_HEIGHT = 24;
+    private static final int DEFAULT_WIDTH = 80;
+    private static final long SIZE_TIMEOUT = 1000;
+    private PrintStream terminal;
+    private Output output;
+    private boolean isAnsi;
+    private int height;
+    private int width;
+    private String[] shown;
+    private boolean isInPlace;
+    private int linesBelow;
+
+    /**
+     * Output which either goes to the terminal, counting the lines printed,
+     * or is caught while a frame is being drawn.
+     */
+    private static class Output extends OutputStream {
+        private OutputStream target;
+        private int newLines;
+
+        private Output(OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (b == '\n') {
+                newLines++;
+            }
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                if (bytes[i] == '\n') {
+                    newLines++;
+                }
+            }
+            target.write(bytes, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+    }
+
+    /**
+     * Constructor for the Screen class.
+     * Takes over System.out, so that lines printed between frames can be counted.
+     * @param isAnsi true if the output is a terminal which understands ANSI escape sequences
+     * @param height number of lines in the terminal
+     * @param width number of columns in the terminal
+     */
+    public Screen(boolean isAnsi, int height, int width) {
+        this.isAnsi = isAnsi;
+        this.height = height;
+        this.width = width;
+        terminal = System.out;
+        output = new Output(terminal);
+        System.setOut(new PrintStream(output, true));
+    }
+
+    /**
+     * Creates a screen for the terminal RoomShare is running in.
+     * The size of the terminal is taken from the LINES and COLUMNS variables if they are set,
+     * and otherwise asked from the terminal once.
+     * @return the screen
+     */
+    public static Screen forTerminal() {
+        boolean isAnsi = System.console() != null;
+        String lines = System.getenv("LINES");
+        String columns = System.getenv("COLUMNS");
+        String size = null;
+        if (lines != null && columns != null) {
+            size = lines.trim() + " " + columns.trim();
+        } else if (isAnsi && !System.getProperty("os.name").startsWith("Windows")) {
+            size = askSize();
+        }
+        int height = DEFAULT_HEIGHT;
+        int width = DEFAULT_WIDTH;
+        if (size != null) {
+            String[] sizes = size.trim().split("\\s+");
+            try {
+                height = Integer.parseInt(sizes[0]);
+                width = Integer.parseInt(sizes[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                height = DEFAULT_HEIGHT;
+                width = DEFAULT_WIDTH;
+            }
+        }
+        return new Screen(isAnsi, height, width);
+    }
+
+    /**
+     * Asks the terminal for its size, waiting up to a second for the answer.
+     * @return the number of lines and columns separated by a space, or null if the terminal could not be asked
+     */
+    private static String askSize() {
+        Process stty;
+        try {
+            stty = new ProcessBuilder("sh", "-c", "stty size < /dev/tty")
+                    .redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        } catch (IOException e) {
+            return null;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stty.getInputStream()))) {
+            stty.getOutputStream().close();
+            if (!stty.waitFor(SIZE_TIMEOUT, TimeUnit.MILLISECONDS) || stty.exitValue() != 0) {
+                return null;
+            }
+            return reader.readLine();
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            stty.destroy();
+        }
+    }
+
+    /**
+     * Starts drawing a frame. Everything printed until the frame is ended becomes part of the frame.
+     */
+    public void begin() {
+        System.out.flush();
+        linesBelow += output.newLines;
+        output.target = new ByteArrayOutputStream();
+        output.newLines = 0;
+    }
+
+    /**
+     * Ends the frame, and draws the lines of it which differ from the frame drawn before.
+     * The cursor is left on the line below the frame, and anything below it is cleared.
+     */
+    public void end() {
+        System.out.flush();
+        String text = output.target.toString();
+        output.target = terminal;
+        output.newLines = 0;
+        String[] frame = text.isEmpty() ? new String[0] : text.split("\\r?\\n", -1);
+        if (frame.length > 0 && frame[frame.length - 1].isEmpty()) {
+            String[] trimmed = new String[frame.length - 1];
+            System.arraycopy(frame, 0, trimmed, 0, trimmed.length);
+            frame = trimmed;
+        }
+        terminal.print(isAnsi ? draw(frame) : text);
+        terminal.flush();
+        shown = frame;
+        linesBelow = 0;
+    }
+
+    /**
+     * Counts a line entered by the user below the frame.
+     */
+    public void countInputLine() {
+        linesBelow++;
+    }
+
+    /**
+     * Works out what to write to change the screen from the frame drawn before to a new frame.
+     * @param frame lines of the new frame
+     * @return the text to be written, with ANSI escape sequences
+     */
+    private String draw(String[] frame) {
+        boolean fits = frame.length + 1 < height;
+        for (int i = 0; i < frame.length && fits; i++) {
+            fits = visibleLength(frame[i]) < width;
+        }
+        boolean isRedrawn = shown == null || !isInPlace || !fits || shown.length + linesBelow + 1 >= height;
+        isInPlace = fits;
+        StringBuilder text = new StringBuilder();
+        if (isRedrawn) {
+            text.append(CLEAR_SCREEN);
+            for (String line : frame) {
+                text.append(line).append('\n');
+            }
+            return text.toString();
+        }
+        String color = RESET_COLOR;
+        for (int i = 0; i < frame.length; i++) {
+            if (i >= shown.length || !frame[i].equals(shown[i])) {
+                text.append(ESC).append(i + 1).append(";1H").append(CLEAR_LINE).append(color).append(frame[i]);
+            }
+            color = lastColor(frame[i], color);
+        }
+        text.append(ESC).append(frame.length + 1).append(";1H").append(CLEAR_BELOW);
+        return text.toString();
+    }
+
+    /**
+     * Returns the color in effect at the end of a line, which lines below it are drawn in
+     * until they set a color of their own.
+     * @param line the line
+     * @param color the color in effect at the start of the line
+     * @return the last color code in the line, or the color at the start of the line if it has none
+     */
+    private static String lastColor(String line, String color) {
+        Matcher matcher = COLOR_CODE.matcher(line);
+        while (matcher.find()) {
+            color = matcher.group();
+        }
+        return color;
+    }
+
+    /**
+     * Returns the number of columns a line takes up in the terminal, leaving out color codes.
+     * @param line the line
+     * @return the number of columns
+     */
+    private static int visibleLength(String line) {
+        String visible = COLOR_CODE.matcher(line).replaceAll("");
+        int length = 0;
+        for (int i = 0; i < visible.length(); i++) {
+            length = visible.charAt(i) == '\t' ? (length / TAB_WIDTH + 1) * TAB_WIDTH : length + 1;
+        }
+        return length;
+    }
+}
@@ -5,6 +5,7 @@ import Enums.*;
 import Model_Classes.Assignment;
 import Model_Classes.Leave;
 import Model_Classes.Meeting;
+import Model_Classes.RecurrenceRule;
 import Model_Classes.Task;
 
 import java.io.*;
@@ -12,6 +13,11 @@ import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
 import java.util.ArrayList;
 import java.util.Date;
 
@@ -19,6 +25,9 @@ import java.util.Date;
  * Performs storage operations such as writing and reading from a .txt file.
  */
 public class Storage {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm");
+    private static final DateTimeFormatter REMINDER_FORMAT = DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm:ss")
+            .withResolverStyle(ResolverStyle.STRICT);
 
     /**
      * Constructor for the Storage class.
@@ -48,7 +57,7 @@ public class Storage {
             for (String list : tempList) {
                 String[] temp = list.split("#");
 
-                if (temp.length > 11) {
+                if (temp.length > 12) {
                     throw new RoomShareException(ExceptionType.loadError);
                 }
                 // Identify type of task
@@ -100,10 +109,10 @@ public class Storage {
                 }
 
                 String scanRecurrence = temp[5].trim();
-                RecurrenceScheduleType recurrence = null;
+                RecurrenceRule recurrence;
                 try {
-                    recurrence = RecurrenceScheduleType.valueOf(scanRecurrence);
-                } catch (IllegalArgumentException e) {
+                    recurrence = RecurrenceRule.parse(scanRecurrence);
+                } catch (RoomShareException e) {
                     throw new RoomShareException(ExceptionType.loadError);
                 }
 
@@ -131,14 +140,25 @@ public class Storage {
                 if (temp.length > 10) {
                     scanSubTask = temp[10].trim();
                 }
+                // files saved before reminders were stored have no reminder field
+                Date reminder = null;
+                if (temp.length > 11 && !temp[11].trim().equals("")) {
+                    try {
+                        LocalDateTime reminderTime = LocalDateTime.parse(temp[11].trim(), REMINDER_FORMAT);
+                        reminder = Date.from(reminderTime.atZone(ZoneId.systemDefault()).toInstant());
+                    } catch (DateTimeException e) {
+                        throw new RoomShareException(ExceptionType.loadError);
+                    }
+                }
 
                 if (type.equals(SaveType.A)) {
                     // Assignment type
                     Assignment assignment = new Assignment(description, date);
                     assignment.setPriority(priority);
                     assignment.setAssignee(user);
-                    assignment.setRecurrenceSchedule(recurrence);
+                    assignment.setRecurrenceRule(recurrence);
                     assignment.setDone(done);
+                    assignment.setReminder(reminder);
                     if (!scanSubTask.equals("")) {
                         assignment.addSubTasks(scanSubTask);
                     }
@@ -147,7 +167,7 @@ public class Storage {
                     //Leave type
                     Leave leave = new Leave(description, user, from, to);
                     leave.setPriority(priority);
-                    leave.setRecurrenceSchedule(recurrence);
+                    leave.setRecurrenceRule(recurrence);
                     taskArrayList.add(leave);
                 } else {
                     //Meeting type
@@ -155,15 +175,17 @@ public class Storage {
                         Meeting meeting = new Meeting(description, date, duration, unit);
                         meeting.setPriority(priority);
                         meeting.setAssignee(user);
-                        meeting.setRecurrenceSchedule(recurrence);
+                        meeting.setRecurrenceRule(recurrence);
                         meeting.setDone(done);
+                        meeting.setReminder(reminder);
                         taskArrayList.add(meeting);
                     } else {
                         Meeting meeting = new Meeting(description, date);
-                        meeting.setRecurrenceSchedule(recurrence);
+                        meeting.setRecurrenceRule(recurrence);
                         meeting.setPriority(priority);
                         meeting.setAssignee(user);
                         meeting.setDone(done);
+                        meeting.setReminder(reminder);
                         taskArrayList.add(meeting);
                     }
                 }
@@ -194,8 +216,10 @@ public class Storage {
                 String priority = s.getPriority().toString();
                 String description = s.getDescription();
                 String date = convertForStorage(s);
-                String recurrence = s.getRecurrenceSchedule().toString();
+                String recurrence = s.hasRecurring() ? s.getRecurrenceRule().toString() : "none";
                 String user = s.getAssignee();
+                String reminder = s.getReminder() == null ? ""
+                        : format(s.getReminder(), REMINDER_FORMAT);
                 if (s instanceof Assignment) {
                     out = type + "#" + isDone + "#"
                             + priority + "#" + description + "#"
@@ -234,7 +258,7 @@ public class Storage {
                                 + "0" + "#" + "unDefined" + "#" + "#";
                     }
                 }
-                writer.write(out);
+                writer.write(out + reminder + "#");
                 writer.newLine();
             }
             writer.close();
@@ -270,31 +294,26 @@ public class Storage {
     }
 
     /**
-     * Extracts and converts all the information in the task object for storage
-     * will format the time information for meeting and assignment tasks
-     * Additional formatting will be done for recurring tasks to include recurrence schedule
-     * returns a string with all the relevant information.
+     * Formats the time information of a meeting or assignment for storage.
+     * The date is formatted directly, so descriptions containing brackets and recurring tasks,
+     * whose string form has an extra recurrence part, are stored correctly.
      *
      * @param task task object to be converted
-     * @return time A String containing all the relevant information
-     * @throws RoomShareException If there is any error in parsing the Date information.
+     * @return time A String of the date in dd/MM/yyyy HH:mm format
+     * @throws RoomShareException If there is any error in formatting the Date information.
      */
     public String convertForStorage(Task task) throws RoomShareException {
-        try {
-            String time = "";
-            String[] prelimSplit = task.toString().split("\\(");
-            String[] tempString = prelimSplit[2].split("\\s+");
-            String year = tempString[6].substring(0, tempString[6].length() - 1);
-            Date date = new SimpleDateFormat("MMM").parse(tempString[2]);
-            DateFormat dateFormat = new SimpleDateFormat("MM");
-            String month = dateFormat.format(date);
-            String[] timeArray = tempString[4].split(":", 3);
-            String day = tempString[3];
-            time = day + "/" + month + "/" + year + " " + timeArray[0] + ":" + timeArray[1];
-            return time;
-        } catch (ParseException e) {
-            throw new RoomShareException(ExceptionType.wrongFormat);
-        }
+        return format(task.getDate(), DATE_FORMAT);
+    }
+
+    /**
+     * Formats a date in the time zone of the computer.
+     * @param date date to be formatted
+     * @param formatter format to be used
+     * @return the formatted date
+     */
+    private static String format(Date date, DateTimeFormatter formatter) {
+        return formatter.format(LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
     }
 
     /**
@@ -12,6 +12,7 @@ import javafx.util.Pair;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 
 public class TaskCreator {
     private static final String UPDATED_DESCRIPTION_ERROR = "There is a formatting error in your updated description";
@@ -22,7 +23,19 @@ public class TaskCreator {
     private static final String ENDING_DATE_FORMAT_ERROR = "Wrong date format, ending date is set default to current date";
     public static final String PRIORITY_WILL_BE_SET_AS_LOW = "There seems to some mistake in your priority entry,"
             + " will be setting priority as low";
+    static final PrefixTrie TASK_TYPES = new PrefixTrie();
+    private static final HashMap<String, String> TYPE_ALIASES = new HashMap<>();
     private Parser parser;
+    private Ui ui = new Ui();
+
+    static {
+        TASK_TYPES.add("assignment");
+        TASK_TYPES.add("leave");
+        TASK_TYPES.add("meeting");
+        TYPE_ALIASES.put("as", "assignment");
+        TYPE_ALIASES.put("lv", "leave");
+        TYPE_ALIASES.put("mt", "meeting");
+    }
 
     /**
      * Constructor for a TaskCreator.
@@ -37,33 +50,7 @@ public class TaskCreator {
      * @return
      */
     public boolean isFlag(char c) {
-        return  c == '#' ||
-                c == '(' ||
-                c == '*' ||
-                c == '&' ||
-                c == '@' ||
-                c == '^' ||
-                c == '!' ||
-                c == '%' ||
-                c == '-';
-    }
-
-    /**
-     * Find the first flag of a given input String
-     * @param input
-     * @return
-     */
-    public String findFirstFlag(String input) {
-        char[] var = input.toCharArray();
-        Character firstFlag = null;
-        for (Character c: var) {
-            if (isFlag(c)) {
-                firstFlag = c;
-                break;
-            }
-        }
-        if (firstFlag == null) return null;
-        return firstFlag.toString();
+        return FlagFields.isFlag(c);
     }
 
     /**
@@ -73,14 +60,7 @@ public class TaskCreator {
      * @return
      */
     public String extractField(String input, String flag) {
-        String[] fieldArray = input.split("\\" + flag);
-
-        if (fieldArray.length <= 1)
-            return null;
-
-        String nextFlag = "\\" + findFirstFlag(fieldArray[1]);
-        if (nextFlag == null) return fieldArray[1].trim();
-        return fieldArray[1].split(nextFlag)[0].trim();
+        return new FlagFields(input).get(flag.charAt(0));
     }
 
     /**
@@ -90,12 +70,32 @@ public class TaskCreator {
      * @throws RoomShareException when the task type is invalid
      */
     public String extractType(String input) throws RoomShareException {
-        String type = extractField(input,"#");
+        return extractType(new FlagFields(input));
+    }
+
+    private String extractType(FlagFields fields) throws RoomShareException {
+        String type = fields.get('#');
         if (type == null)
             throw new RoomShareException(ExceptionType.emptyTaskType);
         return type.trim();
     }
 
+    /**
+     * Resolves a task type given by the user, which may be a short form such as "mt",
+     * or any prefix only one task type starts with, such as "meet".
+     * @param type the task type given by the user
+     * @return the full name of the task type
+     * @throws RoomShareException when the task type is not recognised
+     */
+    private String resolveType(String type) throws RoomShareException {
+        String alias = TYPE_ALIASES.get(type);
+        String resolved = alias != null ? alias : TASK_TYPES.resolve(type);
+        if (resolved == null) {
+            throw new RoomShareException(ExceptionType.wrongTaskType);
+        }
+        return resolved;
+    }
+
     /**
      * Extract the description of a task from user's input.
      * @param input user's input
@@ -103,7 +103,11 @@ public class TaskCreator {
      * @throws RoomShareException when there's no description detected
      */
     public String extractDescription(String input) throws RoomShareException {
-        String description = extractField(input,"-");
+        return extractDescription(new FlagFields(input));
+    }
+
+    private String extractDescription(FlagFields fields) throws RoomShareException {
+        String description = fields.get('-');
         if (description == null)
             throw new RoomShareException(ExceptionType.emptyDescription);
         return description;
@@ -115,8 +119,12 @@ public class TaskCreator {
      * @return the priority of the task
      */
     public Priority extractPriority(String input) throws RoomShareException {
+        return extractPriority(new FlagFields(input));
+    }
+
+    private Priority extractPriority(FlagFields fields) {
         Priority priority;
-        String inputPriority = extractField(input,"*");
+        String inputPriority = fields.get('*');
         if (inputPriority != null) {
             try {
                 priority = Priority.valueOf(inputPriority);
@@ -137,34 +145,27 @@ public class TaskCreator {
      * @throws RoomShareException when there is no date and time detected or the format of date and time is invalid
      */
     public ArrayList<Date> extractDate(String input) throws RoomShareException {
-        // counts the number of '&' tags to determine if the user input a single date or double dates
-        int count = 0;
-        char[] inputAsChar = input.toCharArray();
-        for (char c: inputAsChar) {
-            if (c == '&') {
-                count++;
-            }
-        }
+        return extractDate(new FlagFields(input));
+    }
+
+    private ArrayList<Date> extractDate(FlagFields fields) throws RoomShareException {
+        // the number of dates given determines if the user input a single date or double dates
+        ArrayList<String> dateInputs = fields.getAll('&');
+        int count = dateInputs.size();
 
         ArrayList<Date> dates = new ArrayList<>();
         Date currentDate = new Date();
         if (count > 0) {
             if (count == 1) {
-                try {
-                    String dateInput = extractField(input,"&");
-                    Date date;
-                    date = parser.formatDate(dateInput);
-                    if (date.before(currentDate)) {
-                        // the input date is before the current date
-                        throw new RoomShareException(ExceptionType.invalidDateError);
-                    }
-                    dates.add(date);
-                } catch (ArrayIndexOutOfBoundsException a) {
-                    throw new RoomShareException(ExceptionType.emptyDate);
+                Date date = parser.formatDate(dateInputs.get(0));
+                if (date.before(currentDate)) {
+                    // the input date is before the current date
+                    throw new RoomShareException(ExceptionType.invalidDateError);
                 }
+                dates.add(date);
             } else {
-                String fromInput = extractField(input,"&");
-                String toInput = extractField(input.substring(input.lastIndexOf(fromInput)),"&");
+                String fromInput = dateInputs.get(0);
+                String toInput = dateInputs.get(1);
                 Date from = new Date();
                 Date to = new Date();
 
@@ -203,7 +204,11 @@ public class TaskCreator {
      * @return the name of the assignee
      */
     public String extractAssignee(String input) throws RoomShareException {
-        String assignee = extractField(input,"@");
+        return extractAssignee(new FlagFields(input));
+    }
+
+    private String extractAssignee(FlagFields fields) {
+        String assignee = fields.get('@');
         if (assignee == null)
             assignee = "everyone";
         return assignee;
@@ -215,20 +220,30 @@ public class TaskCreator {
      * @return the recurrence schedule of the task
      */
     public RecurrenceScheduleType extractRecurrence(String input) throws RoomShareException {
-        RecurrenceScheduleType recurrence;
-        String inputRecurrence = extractField(input,"%");
-        if (inputRecurrence != null) {
-            try {
-                recurrence = RecurrenceScheduleType.valueOf(inputRecurrence);
-            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
-                System.out.println(RECURRENCE_FORMAT_ERROR);
-                recurrence = RecurrenceScheduleType.none;
-            }
-        } else {
-            recurrence = RecurrenceScheduleType.none;
-        }
+        RecurrenceRule recurrence = extractRecurrenceRule(input);
+        return recurrence == null ? RecurrenceScheduleType.none : recurrence.getFrequency();
+    }
 
-        return  recurrence;
+    /**
+     * Extract the recurrence rule of task from user's input, such as "%every 2 weeks on tue,thu until 30/06/2020%".
+     * @param input user's input
+     * @return the recurrence rule of the task, or null if the task does not recur
+     */
+    public RecurrenceRule extractRecurrenceRule(String input) {
+        return extractRecurrenceRule(new FlagFields(input));
+    }
+
+    private RecurrenceRule extractRecurrenceRule(FlagFields fields) {
+        String inputRecurrence = fields.get('%');
+        if (inputRecurrence == null) {
+            return null;
+        }
+        try {
+            return RecurrenceRule.parse(inputRecurrence);
+        } catch (RoomShareException e) {
+            System.out.println(RECURRENCE_FORMAT_ERROR);
+            return null;
+        }
     }
 
     /**
@@ -237,9 +252,13 @@ public class TaskCreator {
      * @return the amount of time and unit of the duration as a Pair of Integer and TimeUnit
      */
     public Pair<Integer, TimeUnit> extractDuration(String input) throws RoomShareException {
+        return extractDuration(new FlagFields(input));
+    }
+
+    private Pair<Integer, TimeUnit> extractDuration(FlagFields fields) throws RoomShareException {
         int duration;
         TimeUnit unit;
-        String inputDuration = extractField(input,"^");
+        String inputDuration = fields.get('^');
         if (inputDuration != null) {
             try {
                 String[] var = inputDuration.split(" ");
@@ -294,7 +313,11 @@ public class TaskCreator {
      * @return the reminder flag of the task
      */
     public boolean extractReminder(String input) {
-        String reminder = extractField(input, "!");
+        return extractReminder(new FlagFields(input));
+    }
+
+    private boolean extractReminder(FlagFields fields) {
+        String reminder = fields.get('!');
         if (reminder != null) {
             return reminder.contains("R");
         } else {
@@ -304,26 +327,52 @@ public class TaskCreator {
 
     /**
      * Create a new task based on the description the user key in.
+     * Checks the new task for duplicates and time clashes against the task list.
      * @param input the description of the task
      * @return a new Task object created based on the description
      * @throws RoomShareException when there are some formatting errors
+     * @throws DuplicateException when the same task is already in the task list
+     * @throws TimeClashException when the new meeting clashes with another meeting
      */
     public Task create(String input) throws RoomShareException, DuplicateException, TimeClashException {
+        Task task = this.parse(input);
+        // check for duplicates and time clashes
+        int duplicateCheck = CheckAnomaly.isDuplicate(task);
+        if (duplicateCheck != -1) {
+            throw new DuplicateException(duplicateCheck);
+        }
+        int timeClashCheck = CheckAnomaly.isTimeClash(task);
+        if (timeClashCheck != -1) {
+            throw new TimeClashException(timeClashCheck);
+        }
+        if (!(task instanceof Leave)) {
+            flagUnavailable(task);
+        }
+        flagNearDuplicates(task);
+        return task;
+    }
+
+    /**
+     * Create a new task based on the description the user key in, without checking it against the task list.
+     * @param input the description of the task
+     * @return a new Task object created based on the description
+     * @throws RoomShareException when there are some formatting errors
+     */
+    public Task parse(String input) throws RoomShareException {
+        // find every field of the input in a single pass
+        FlagFields fields = new FlagFields(input);
+
         // extract the Task Type
-        String type = this.extractType(input);
+        String type = this.resolveType(this.extractType(fields));
 
         // extract the priority
-        Priority priority = this.extractPriority(input);
+        Priority priority = this.extractPriority(fields);
 
         // extract the description
-        String description = this.extractDescription(input);
-
-        // check for duplicates and time clashes
-        int duplicateCheck;
-        int timeClashCheck;
+        String description = this.extractDescription(fields);
 
         // extract date
-        ArrayList<Date> dates = this.extractDate(input);
+        ArrayList<Date> dates = this.extractDate(fields);
         Date date = new Date();
         Date from = new Date();
         Date to = new Date();
@@ -336,131 +385,74 @@ public class TaskCreator {
         }
 
         // extract the assignee
-        String assignee = this.extractAssignee(input);
+        String assignee = this.extractAssignee(fields);
 
         // extract recurrence schedule
-        RecurrenceScheduleType recurrence = this.extractRecurrence(input);
+        RecurrenceRule recurrence = this.extractRecurrenceRule(fields);
 
         //extract duration
-        Pair<Integer, TimeUnit> durationAndUnit = this.extractDuration(input);
+        Pair<Integer, TimeUnit> durationAndUnit = this.extractDuration(fields);
         int duration = durationAndUnit.getKey();
 
         TimeUnit unit = durationAndUnit.getValue();
 
-        //extract reminder
-        boolean remind = this.extractReminder(input);
+        //extract reminder, which is due after the duration in seconds
+        Date reminder = null;
+        if (this.extractReminder(fields)) {
+            reminder = new Date(System.currentTimeMillis() + duration * 1000L);
+        }
 
-        if (type.equals("assignment") || type.equals("as")) {
+        if (type.equals("assignment")) {
             Assignment assignment = new Assignment(description, date);
             assignment.setPriority(priority);
             assignment.setAssignee(assignee);
-            assignment.setRecurrenceSchedule(recurrence);
-            if (remind) {
-                TaskReminder taskReminder = new TaskReminder(description, duration);
-                taskReminder.start();
-            }
-            duplicateCheck = CheckAnomaly.isDuplicate(assignment);
-            if (duplicateCheck == -1) {
-                return assignment;
-            } else {
-                throw new DuplicateException(duplicateCheck);
-            }
-        } else if (type.equals("leave") || type.equals("lv")) {
-            String user;
-            String[] leaveUserArray = input.split("@");
-            if (leaveUserArray.length != 1) {
-                user = leaveUserArray[1].trim();
-            } else {
+            assignment.setRecurrenceRule(recurrence);
+            assignment.setReminder(reminder);
+            return assignment;
+        } else if (type.equals("leave")) {
+            String user = fields.get('@');
+            if (user == null) {
                 throw new RoomShareException(ExceptionType.emptyUser);
             }
             Leave leave = new Leave(description, user, from, to);
             leave.setPriority(priority);
-            leave.setRecurrenceSchedule(recurrence);
-            duplicateCheck = CheckAnomaly.isDuplicate(leave);
-            if (duplicateCheck == -1) {
-                return leave;
+            leave.setRecurrenceRule(recurrence);
+            return leave;
+        } else {
+            Meeting meeting;
+            if (unit.equals(TimeUnit.unDefined)) {
+                // duration was not specified or not correctly input
+                meeting = new Meeting(description, date);
             } else {
-                throw new DuplicateException(duplicateCheck);
+                meeting = new Meeting(description, date, duration, unit);
             }
-        } else if (type.equals("meeting") || type.equals("mt")) {
-            if (remind) {
-                if (unit.equals(TimeUnit.unDefined)) {
-                    // duration was not specified or not correctly input
-                    Meeting meeting = new Meeting(description, date);
-                    meeting.setPriority(priority);
-                    meeting.setAssignee(assignee);
-                    meeting.setRecurrenceSchedule(recurrence);
-                    TaskReminder taskReminder = new TaskReminder(description, duration);
-                    taskReminder.start();
-                    duplicateCheck = CheckAnomaly.isDuplicate(meeting);
-                    if (duplicateCheck == -1) {
-                        timeClashCheck = CheckAnomaly.isTimeClash(meeting);
-                        if (timeClashCheck == -1) {
-                            return meeting;
-                        } else {
-                            throw new TimeClashException(timeClashCheck);
-                        }
-                    } else {
-                        throw new DuplicateException(duplicateCheck);
-                    }
+            meeting.setPriority(priority);
+            meeting.setAssignee(assignee);
+            meeting.setRecurrenceRule(recurrence);
+            meeting.setReminder(reminder);
+            return meeting;
+        }
+    }
 
-                } else {
-                    Meeting meeting = new Meeting(description, date, duration, unit);
-                    meeting.setPriority(priority);
-                    meeting.setAssignee(assignee);
-                    meeting.setRecurrenceSchedule(recurrence);
-                    TaskReminder taskReminder = new TaskReminder(description, duration);
-                    taskReminder.start();
-                    duplicateCheck = CheckAnomaly.isDuplicate(meeting);
-                    if (duplicateCheck == -1) {
-                        timeClashCheck = CheckAnomaly.isTimeClash(meeting);
-                        if (timeClashCheck == -1) {
-                            return meeting;
-                        } else {
-                            throw new TimeClashException(timeClashCheck);
-                        }
-                    } else {
-                        throw new DuplicateException(duplicateCheck);
-                    }
-                }
-            } else {
-                if (unit.equals(TimeUnit.unDefined)) {
-                    // duration was not specified or not correctly input
-                    Meeting meeting = new Meeting(description, date);
-                    meeting.setPriority(priority);
-                    meeting.setAssignee(assignee);
-                    meeting.setRecurrenceSchedule(recurrence);
-                    duplicateCheck = CheckAnomaly.isDuplicate(meeting);
-                    if (duplicateCheck == -1) {
-                        timeClashCheck = CheckAnomaly.isTimeClash(meeting);
-                        if (timeClashCheck == -1) {
-                            return meeting;
-                        } else {
-                            throw new TimeClashException(timeClashCheck);
-                        }
-                    } else {
-                        throw new DuplicateException(duplicateCheck);
-                    }
-                } else {
-                    Meeting meeting = new Meeting(description, date, duration, unit);
-                    meeting.setPriority(priority);
-                    meeting.setAssignee(assignee);
-                    meeting.setRecurrenceSchedule(recurrence);
-                    duplicateCheck = CheckAnomaly.isDuplicate(meeting);
-                    if (duplicateCheck == -1) {
-                        timeClashCheck = CheckAnomaly.isTimeClash(meeting);
-                        if (timeClashCheck == -1) {
-                            return meeting;
-                        } else {
-                            throw new TimeClashException(timeClashCheck);
-                        }
-                    } else {
-                        throw new DuplicateException(duplicateCheck);
-                    }
-                }
-            }
-        } else {
-            throw new RoomShareException(ExceptionType.wrongTaskType);
+    /**
+     * Warns the user if the people assigned to a new task are on leave or busy at the time of the task.
+     * @param task the new task
+     */
+    private void flagUnavailable(Task task) {
+        ArrayList<String> unavailable = CheckAnomaly.findUnavailable(task);
+        if (!unavailable.isEmpty()) {
+            ui.showUnavailable(unavailable);
+        }
+    }
+
+    /**
+     * Warns the user if there are tasks in the list with a description similar to a new task.
+     * @param task the new task
+     */
+    private void flagNearDuplicates(Task task) {
+        ArrayList<Task> similar = CheckAnomaly.findNearDuplicates(task);
+        if (!similar.isEmpty()) {
+            ui.showNearDuplicateWarning(similar);
         }
     }
 
@@ -472,15 +464,17 @@ public class TaskCreator {
     public void updateTask(String input, Task oldTask) throws RoomShareException {
         boolean isNotUpdated = true;
         boolean isSetToEveryone = false;
+        FlagFields fields = new FlagFields(input);
 
-        String description = this.extractField(input,"-");
+        String description = fields.get('-');
         if (description != null) {
             oldTask.setDescription(description);
+            TaskList.reindex(oldTask);
             isNotUpdated = false;
         }
 
-        if (input.contains("&")) {
-            ArrayList<Date> dates = extractDate(input);
+        if (fields.has('&')) {
+            ArrayList<Date> dates = extractDate(fields);
             if (oldTask instanceof Leave && dates.size() == 2) {
                 Leave oldLeave = (Leave) oldTask;
                 Date start = dates.get(0);
@@ -502,19 +496,14 @@ public class TaskCreator {
             }
         }
 
-        if (input.contains("*")) {
-            Priority priority = this.extractPriority(input);
+        if (fields.has('*')) {
+            Priority priority = this.extractPriority(fields);
             oldTask.setPriority(priority);
             isNotUpdated = false;
         }
 
-        if (input.contains("@")) {
-            String assignee = null;
-            try {
-                assignee = this.extractAssignee(input);
-            } catch (RoomShareException e) {
-                assignee = "everyone";
-            }
+        if (fields.has('@')) {
+            String assignee = this.extractAssignee(fields);
             if (assignee.equals("everyone")) {
                 isSetToEveryone = true;
             }
@@ -526,8 +515,8 @@ public class TaskCreator {
             isNotUpdated = false;
         }
 
-        if (input.contains("^") && oldTask instanceof Meeting) {
-            Pair<Integer, TimeUnit> durationAndUnit = this.extractDuration(input);
+        if (fields.has('^') && oldTask instanceof Meeting) {
+            Pair<Integer, TimeUnit> durationAndUnit = this.extractDuration(fields);
             int duration = durationAndUnit.getKey();
             TimeUnit unit = durationAndUnit.getValue();
             Meeting oldMeeting = (Meeting) oldTask;
@@ -535,9 +524,9 @@ public class TaskCreator {
             isNotUpdated = false;
         }
 
-        if (input.contains("%")) {
-            RecurrenceScheduleType recurrence = this.extractRecurrence(input);
-            oldTask.setRecurrenceSchedule(recurrence);
+        if (fields.has('%')) {
+            RecurrenceRule recurrence = this.extractRecurrenceRule(fields);
+            oldTask.setRecurrenceRule(recurrence);
             isNotUpdated = false;
         }
 
@@ -545,9 +534,10 @@ public class TaskCreator {
         if (isNotUpdated) {
             throw new RoomShareException(ExceptionType.invalidInputString);
         }
+        TaskList.track(oldTask);
 
         if (isSetToEveryone) {
-            throw new RoomShareException(ExceptionType.assigneeSetToEveyone);
+            ui.showAssigneeSetToEveryone();
         }
     }
 
@@ -558,7 +548,7 @@ public class TaskCreator {
      * @param overdueTask the task which date needs to be updated
      */
     public void rescheduleTask(String input, Task overdueTask) throws RoomShareException {
-        ArrayList<Date> dates = this.extractDate(input);
+        ArrayList<Date> dates = this.extractDate(new FlagFields(input));
         if (overdueTask instanceof Leave && dates.size() == 2) {
             Leave oldLeave = (Leave) overdueTask;
             Date start = dates.get(0);
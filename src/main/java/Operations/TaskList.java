@@ -10,6 +10,8 @@ import Model_Classes.Task;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 /**
  * A class to perform operations on the task list in Duke.
@@ -19,6 +21,20 @@ public class TaskList {
     private static final String YOUR_SEARCH_RETURNED_NO_RESULTS_TRY_SEARCHING_WITH_ANOTHER_KEYWORD = "    Your search returned no results.... Try searching with another keyword!";
     private static ArrayList<Task> tasks;
     private static SortType sortType = SortType.priority;
+    private static NearDuplicateDetector nearDuplicates;
+    private static RecurrenceScheduler recurrenceScheduler;
+    private static ReminderService reminderService;
+    private static OverdueSweeper overdueSweeper;
+    private static PriorityAging priorityAging;
+    private static CompletionIndex completionIndex;
+    private static AvailabilityIndex availabilityIndex = new AvailabilityIndex();
+    private static IdentityHashMap<Task, Boolean> counted = new IdentityHashMap<>();
+    private static int countedSize;
+    private static int countedDoneSize;
+    private static boolean isSortNeeded = true;
+    private static IdentityHashMap<Task, Boolean> pendingTracking;
+    private static final Object lock = new Object();
+    private ViewBuffer view = new ViewBuffer();
 
     /**
      * Constructor for the TaskList class.
@@ -27,6 +43,12 @@ public class TaskList {
      */
     public TaskList(ArrayList<Task> tasks) {
         TaskList.tasks = tasks;
+        availabilityIndex = AvailabilityIndex.build(tasks, null);
+        recount();
+        isSortNeeded = true;
+        if (nearDuplicates != null) {
+            setNearDuplicateCheck(true);
+        }
     }
 
     /**
@@ -35,6 +57,27 @@ public class TaskList {
      */
     public void add(Task newTask) {
         tasks.add(newTask);
+        if (nearDuplicates != null) {
+            nearDuplicates.add(newTask);
+        }
+        track(newTask);
+        sortTasks();
+    }
+
+    /**
+     * Adds many new tasks into the task list at once, sorting the list only once.
+     * @param newTasks Task objects to be added into the list of tasks
+     */
+    public void addAll(ArrayList<Task> newTasks) {
+        tasks.addAll(newTasks);
+        if (nearDuplicates != null) {
+            for (Task newTask : newTasks) {
+                nearDuplicates.add(newTask);
+            }
+        }
+        for (Task newTask : newTasks) {
+            track(newTask);
+        }
         sortTasks();
     }
 
@@ -54,7 +97,7 @@ public class TaskList {
                 throw new RoomShareException(ExceptionType.outOfBounds);
             }
             deletedList.add(tasks.get(idx[0]));
-            tasks.remove(idx[0]);
+            unindex(tasks.remove(idx[0]));
         } else {
             boolean isNegativeFirstIndex = idx[0] < 0;
             boolean isExceededFirstIndex = idx[0] >= tasks.size();
@@ -66,7 +109,7 @@ public class TaskList {
             }
             for (int i = idx[0]; idx[1] >= idx[0]; idx[1]--) {
                 deletedList.add(tasks.get(i));
-                tasks.remove(i);
+                unindex(tasks.remove(i));
             }
         }
     }
@@ -75,52 +118,101 @@ public class TaskList {
      * Lists out all tasks in the current list in the order they were added into the list.
      * shows all information related to the tasks
      * hides completed tasks
+     * tasks which have passed their deadlines, and leaves which have ended, are swept by the OverdueSweeper, not here
+     * The whole list is written in a single write.
      * @throws RoomShareException when the list is empty
      */
     public void list(OverdueList overdueList) throws RoomShareException {
-        sortTasks();
+        sortIfNeeded();
         if (tasks.size() != 0) {
             int listCount = 1;
-            checkForOverdueTasks(overdueList);
-            checkForFinishedLeave();
             for (Task output : tasks) {
                 if (!output.getDone() && !output.getOverdue()) {
-                    String priorityLvl = indicatePriorityLevel(output);
-                    if (priorityLvl.trim().equals("*"))
-                        System.out.print(Color.BRIGHTYELLOW);
-                    else if(priorityLvl.trim().equals("**"))
-                        System.out.print(Color.ORANGE);
-                    else
-                        System.out.print(Color.RED);
-                    System.out.println("\t" + listCount + ". " + output.toString() + priorityLvl);
-                    showSubtasks(output);
-                    System.out.print(Color.RESET);
+                    showPending(listCount, output);
                 }
                 listCount += 1;
             }
+            view.flush();
         } else {
             throw new RoomShareException(ExceptionType.emptyList);
         }
     }
 
+    /**
+     * Lists out one page of the list: the tasks from one position in the list up to another,
+     * pending tasks first and then completed tasks, numbered as in the whole list, in a single write.
+     * The heading of the completed tasks is only shown on the page where they start.
+     * Only the tasks on the page are looked at, and the list is only sorted if it changed since it was last sorted,
+     * so a page of a long list is shown as quickly as a short list.
+     * @param from position of the first task on the page, counting from 0
+     * @param to position after the last task on the page
+     * @throws RoomShareException when the list is empty
+     */
+    public void listPage(int from, int to) throws RoomShareException {
+        sortIfNeeded();
+        if (tasks.size() == 0) {
+            throw new RoomShareException(ExceptionType.emptyList);
+        }
+        int firstDone = -1;
+        for (int i = from; i < to && i < tasks.size(); i++) {
+            if (!tasks.get(i).getDone() && !tasks.get(i).getOverdue()) {
+                showPending(i + 1, tasks.get(i));
+            } else if (firstDone == -1 && tasks.get(i).getDone()) {
+                firstDone = i;
+            }
+        }
+        view.append(Color.GREEN);
+        if (firstDone == 0 || (firstDone > 0 && !tasks.get(firstDone - 1).getDone())) {
+            view.append(COMPLETED_TASKS).newLine();
+        }
+        for (int i = from; i < to && i < tasks.size(); i++) {
+            if (tasks.get(i).getDone()) {
+                view.append("\t").append(i + 1).append(". ").append(tasks.get(i)).newLine();
+                showSubtasks(tasks.get(i));
+            }
+        }
+        view.append(Color.RESET);
+        view.flush();
+    }
+
+    /**
+     * Adds a pending task to the view being built, in the color of its priority.
+     * @param number number of the task in the list
+     * @param task the task
+     */
+    private void showPending(int number, Task task) {
+        String priorityLvl = indicatePriorityLevel(task);
+        if (priorityLvl.trim().equals("*"))
+            view.append(Color.BRIGHTYELLOW);
+        else if(priorityLvl.trim().equals("**"))
+            view.append(Color.ORANGE);
+        else
+            view.append(Color.RED);
+        view.append("\t").append(number).append(". ").append(task).append(priorityLvl).newLine();
+        showSubtasks(task);
+        view.append(Color.RESET);
+    }
+
     /**
      * Lists out completed tasks in the list.
      * @throws RoomShareException when there are no completed tasks
      */
     public void showCompleted() throws RoomShareException {
-        sortTasks();
-        System.out.println(Color.GREEN + COMPLETED_TASKS);
+        sortIfNeeded();
+        view.append(Color.GREEN).append(COMPLETED_TASKS).newLine();
         if (tasks.size() != 0) {
             int listCount = 1;
             for (Task output : tasks) {
                 if (output.getDone()) {
-                    System.out.println("\t" + listCount + ". " + output.toString());
+                    view.append("\t").append(listCount).append(". ").append(output).newLine();
                     showSubtasks(output);
                 }
                 listCount += 1;
             }
-            System.out.print(Color.RESET);
+            view.append(Color.RESET);
+            view.flush();
         } else {
+            view.flush();
             throw new RoomShareException(ExceptionType.emptyList);
         }
     }
@@ -139,6 +231,7 @@ public class TaskList {
                 throw new RoomShareException(ExceptionType.outOfBounds);
             }
             tasks.get(index[0]).setDone(true);
+            count(tasks.get(index[0]));
         } else {
             boolean isNegativeFirstIndex = index[0] < 0;
             boolean isExceededFirstIndex = index[0] >= tasks.size();
@@ -150,8 +243,10 @@ public class TaskList {
             }
             for (int i = index[0]; i <= index[1]; i++) {
                 tasks.get(i).setDone(true);
+                count(tasks.get(i));
             }
         }
+        isSortNeeded = true;
     }
 
     /**
@@ -186,14 +281,15 @@ public class TaskList {
         for (Task query : tasks) {
             if (query.toString().toLowerCase().contains(key.trim())) {
                 String priorityLevel = indicatePriorityLevel(query);
-                System.out.println("\t" + queryCount + ". " + query.toString() + priorityLevel);
+                view.append("\t").append(queryCount).append(". ").append(query).append(priorityLevel).newLine();
                 showSubtasks(query);
                 queryCount += 1;
             }
         }
         if (queryCount == 1) {
-            System.out.println(YOUR_SEARCH_RETURNED_NO_RESULTS_TRY_SEARCHING_WITH_ANOTHER_KEYWORD);
+            view.append(YOUR_SEARCH_RETURNED_NO_RESULTS_TRY_SEARCHING_WITH_ANOTHER_KEYWORD).newLine();
         }
+        view.flush();
     }
 
     /**
@@ -204,13 +300,35 @@ public class TaskList {
         return tasks;
     }
 
+    /**
+     * Returns the index of when each person is unavailable, which is kept up to date with the list.
+     * @return the availability index
+     */
+    public static AvailabilityIndex getAvailabilityIndex() {
+        return availabilityIndex;
+    }
+
+    /**
+     * Returns the lock guarding the task list.
+     * Anything changing tasks from outside the main command loop, such as the recurrence scheduler,
+     * must hold this lock while doing so.
+     * @return the task list lock
+     */
+    public static Object getLock() {
+        return lock;
+    }
+
     /**
      * replaces the task at the specified index with a new task.
      * @param index index of the task to be replaced
      * @param replacement the replacement task
      */
     public void replace(int index, Task replacement) {
-        tasks.set(index, replacement);
+        unindex(tasks.set(index, replacement));
+        if (nearDuplicates != null) {
+            nearDuplicates.add(replacement);
+        }
+        track(replacement);
     }
 
     /**
@@ -223,6 +341,7 @@ public class TaskList {
             int index = Integer.parseInt(info[0]) - 1;
             Priority priority = Priority.valueOf(info[1]);
             tasks.get(index).setPriority(priority);
+            isSortNeeded = true;
         } catch (IllegalArgumentException a) {
             throw new RoomShareException(ExceptionType.wrongPriority);
         } catch (IndexOutOfBoundsException i) {
@@ -235,18 +354,33 @@ public class TaskList {
      * Returns priority of the task in the form of an integer.
      * high = 0, medium = 1, low = 2
      * @param t task in which we are checking the value of
+     * @param now time at which the priority is checked, used when priority aging is turned on
      * @return integer value of the task's priority
      */
-    private static int getValue(Task t) {
-        if (t.getPriority().equals(Priority.high)) {
+    private static int getValue(Task t, long now) {
+        Priority priority = getPriority(t, now);
+        if (priority.equals(Priority.high)) {
             return 0;
-        } else if (t.getPriority().equals(Priority.medium)) {
+        } else if (priority.equals(Priority.medium)) {
             return 1;
         } else {
             return 2;
         }
     }
 
+    /**
+     * Returns the priority of the task at a given time.
+     * @param task task in which we are checking the priority of
+     * @param now time at which the priority is checked
+     * @return the priority set for the task, raised if priority aging is turned on and its deadline is near
+     */
+    private static Priority getPriority(Task task, long now) {
+        if (priorityAging == null) {
+            return task.getPriority();
+        }
+        return priorityAging.getPriority(task, now);
+    }
+
     /**
      * Changes taskList sort mode.
      * @param sortType new sort mode
@@ -256,11 +390,22 @@ public class TaskList {
         sortTasks();
     }
 
+    /**
+     * Sorts the list, unless no task was added or changed since it was last sorted.
+     * With priority aging turned on, the order changes with time, so the list is always sorted.
+     */
+    static void sortIfNeeded() {
+        if (isSortNeeded || priorityAging != null) {
+            sortTasks();
+        }
+    }
+
     /**
      * Sorts the list based on current sort mode.
      * @throws IllegalArgumentException when the sort type is not of priority, alphabetical or by deadline
      */
     public static void sortTasks() {
+        isSortNeeded = false;
         switch (sortType) {
         case priority:
             comparePriority();
@@ -283,13 +428,14 @@ public class TaskList {
      * Compare tasks based on priority.
      */
     private static void comparePriority() {
+        long now = System.currentTimeMillis();
         tasks.sort((task1, task2) -> {
             if (task1.getDone() && !task2.getDone()) {
                 return 1;
             } else if (task2.getDone() && !task1.getDone()) {
                 return -1;
             } else {
-                return getValue(task1) - getValue(task2);
+                return getValue(task1, now) - getValue(task2, now);
             }
         });
     }
@@ -392,37 +538,72 @@ public class TaskList {
                 tasks.get(index).snoozeMinute(0);
                 break;
             }
+            track(tasks.get(index));
         } catch (IndexOutOfBoundsException e) {
             throw new RoomShareException(ExceptionType.outOfBounds);
         }
     }
 
     /**
-     * Get the number of tasks inside the task list.
+     * Get the number of tasks inside the task list, leaving out leaves.
+     * The count is kept up to date as tasks are added, changed and removed.
      * @return the number of tasks inside the task list
      */
     int getSize() {
-        int count = 0;
-        for (Task t : tasks) {
-            if (!t.getOverdue() && !(t instanceof Leave)) {
-                count += 1;
-            }
-        }
-        return count;
+        return countedSize;
     }
 
     /**
-     * Get the number of completed tasks inside the task list.
+     * Get the number of completed tasks inside the task list, leaving out leaves.
+     * The count is kept up to date as tasks are added, changed and removed.
      * @return the number of completed tasks inside the task list
      */
     int getDoneSize() {
-        int count = 0;
-        for (Task t: tasks) {
-            if (t.getDone() && !t.getOverdue() && !(t instanceof Leave)) {
-                count++;
-            }
+        return countedDoneSize;
+    }
+
+    /**
+     * Counts a task which was added or changed towards the size of the list and the number of completed tasks,
+     * replacing how it was counted before.
+     * @param task task that was added or changed
+     */
+    private static void count(Task task) {
+        uncount(task);
+        if (task.getOverdue() || task instanceof Leave) {
+            return;
+        }
+        counted.put(task, task.getDone());
+        countedSize++;
+        if (task.getDone()) {
+            countedDoneSize++;
+        }
+    }
+
+    /**
+     * Stops counting a task that has left the list.
+     * @param task task that has left the list
+     */
+    private static void uncount(Task task) {
+        Boolean isDone = counted.remove(task);
+        if (isDone == null) {
+            return;
+        }
+        countedSize--;
+        if (isDone) {
+            countedDoneSize--;
+        }
+    }
+
+    /**
+     * Counts every task in the list again.
+     */
+    private static void recount() {
+        counted.clear();
+        countedSize = 0;
+        countedDoneSize = 0;
+        for (Task task : tasks) {
+            count(task);
         }
-        return count;
     }
 
     /**
@@ -467,12 +648,13 @@ public class TaskList {
                 }
                 if (!output.getDone() && !output.getOverdue()) {
                     String priorityLvl = indicatePriorityLevel(output);
-                    System.out.println("\t" + listCount + ". " + output.toString() + priorityLvl);
+                    view.append("\t").append(listCount).append(". ").append(output).append(priorityLvl).newLine();
                     showSubtasks(output);
                 }
                 listCount += 1;
             }
         }
+        view.flush();
         if (belongCount == 0) {
             throw new RoomShareException(ExceptionType.emptyList);
         }
@@ -492,41 +674,234 @@ public class TaskList {
             CheckAnomaly.isTimeClash(TaskList.get(index));
         }
         TaskList.get(index).setDone(false);
+        track(TaskList.get(index));
     }
 
     /**
-     * checks for overdue tasks in the task list.
-     * removes from the current list if overdue, and adds it into the overdue list
-     * @param overdueList overdue list to be added into
+     * Moves a task whose deadline has passed from the task list into the overdue list.
+     * The task is only added to the overdue list if the same task is not already there.
+     * @param task task to be moved
      */
-    private void checkForOverdueTasks(OverdueList overdueList) {
-        for (int i = 0; i < tasks.size(); i++) {
-            boolean isPassedCurrentDate = new Date().after(tasks.get(i).getDate());
-            boolean isNotALeave = !(tasks.get(i) instanceof Leave);
-            if (isPassedCurrentDate && isNotALeave) {
-                tasks.get(i).setOverdue(true);
-                boolean hasNoDuplicateOverdue = !CheckAnomaly.isDuplicateOverdue(tasks.get(i));
-                if (hasNoDuplicateOverdue) {
-                    // no duplicates in overdue list
-                    overdueList.add(tasks.get(i));
-                }
-                tasks.remove(tasks.get(i));
+    static void moveToOverdue(Task task) {
+        task.setOverdue(true);
+        if (!CheckAnomaly.isDuplicateOverdue(task)) {
+            OverdueList.getOverdueList().add(task);
+        }
+        unindex(task);
+        tasks.remove(task);
+    }
+
+    /**
+     * Removes a leave which has ended from the task list.
+     * @param leave leave to be removed
+     */
+    static void removeFinishedLeave(Leave leave) {
+        unindex(leave);
+        tasks.remove(leave);
+    }
+
+    /**
+     * Turns priority aging on or off.
+     * When turned on, tasks are sorted and shown with a higher priority as their deadlines come near.
+     * The priorities set for the tasks are not changed.
+     * @param isOn true to turn priority aging on
+     */
+    public static void setPriorityAging(boolean isOn) {
+        priorityAging = isOn ? new PriorityAging() : null;
+        sortTasks();
+    }
+
+    /**
+     * Turns the check for tasks with similar descriptions on or off.
+     * When turned on, the descriptions of all tasks in the list are indexed, and kept indexed as the list changes.
+     * @param isOn true to turn the check on
+     */
+    public static void setNearDuplicateCheck(boolean isOn) {
+        if (isOn) {
+            nearDuplicates = new NearDuplicateDetector();
+            for (Task task : tasks) {
+                nearDuplicates.add(task);
+            }
+        } else {
+            nearDuplicates = null;
+        }
+    }
+
+    /**
+     * Finds the tasks in the list with a description similar to a task.
+     * @param task task to be checked
+     * @return list of similar tasks, empty if the check is turned off
+     */
+    static ArrayList<Task> findNearDuplicates(Task task) {
+        if (nearDuplicates == null) {
+            return new ArrayList<>();
+        }
+        return nearDuplicates.findSimilar(task);
+    }
+
+    /**
+     * Indexes a task again after its description or time has been changed,
+     * such as when the recurrence scheduler moves it to its next occurrence.
+     * @param task task that has been changed
+     */
+    static void reindex(Task task) {
+        if (nearDuplicates != null) {
+            nearDuplicates.add(task);
+        }
+        if (completionIndex != null) {
+            completionIndex.add(task);
+        }
+        availabilityIndex.add(task);
+        count(task);
+        isSortNeeded = true;
+    }
+
+    /**
+     * Removes a task that has left the list from the index of similar descriptions, the completion index,
+     * the availability index, the task counts and the recurrence scheduler.
+     * @param task task that has left the list
+     */
+    private static void unindex(Task task) {
+        if (nearDuplicates != null) {
+            nearDuplicates.remove(task);
+        }
+        if (completionIndex != null) {
+            completionIndex.remove(task);
+        }
+        availabilityIndex.remove(task);
+        uncount(task);
+        if (pendingTracking != null) {
+            pendingTracking.put(task, false);
+            return;
+        }
+        cancelTracking(task);
+    }
+
+    /**
+     * Tells the recurrence scheduler, reminder service and overdue sweeper that a task has left the list.
+     * @param task task that has left the list
+     */
+    private static void cancelTracking(Task task) {
+        if (recurrenceScheduler != null) {
+            recurrenceScheduler.cancel(task);
+        }
+        if (reminderService != null) {
+            reminderService.cancel(task);
+        }
+        if (overdueSweeper != null) {
+            overdueSweeper.cancel(task);
+        }
+    }
+
+    /**
+     * Sets the recurrence scheduler to be told about tasks being added, changed and removed.
+     * @param scheduler the recurrence scheduler, or null to stop telling any scheduler
+     */
+    public static void setRecurrenceScheduler(RecurrenceScheduler scheduler) {
+        recurrenceScheduler = scheduler;
+    }
+
+    /**
+     * Sets the overdue sweeper to be told about tasks being added, changed and removed.
+     * @param sweeper the overdue sweeper, or null to stop telling any sweeper
+     */
+    public static void setOverdueSweeper(OverdueSweeper sweeper) {
+        overdueSweeper = sweeper;
+    }
+
+    /**
+     * Updates the completion index, the availability index and the task counts, marks the list to be sorted,
+     * and tells the recurrence scheduler, reminder service and overdue sweeper that a task was added or may have
+     * changed.
+     * @param task task that was added or changed
+     */
+    static void track(Task task) {
+        if (completionIndex != null) {
+            completionIndex.add(task);
+        }
+        availabilityIndex.add(task);
+        count(task);
+        isSortNeeded = true;
+        if (pendingTracking != null) {
+            pendingTracking.put(task, true);
+            return;
+        }
+        if (recurrenceScheduler != null) {
+            recurrenceScheduler.track(task);
+        }
+        if (reminderService != null) {
+            reminderService.track(task);
+        }
+        if (overdueSweeper != null) {
+            overdueSweeper.track(task);
+        }
+    }
+
+    /**
+     * Holds back telling the recurrence scheduler, reminder service and overdue sweeper about changed tasks,
+     * until the changes are either applied or discarded.
+     */
+    static void deferTracking() {
+        pendingTracking = new IdentityHashMap<>();
+    }
+
+    /**
+     * Tells the recurrence scheduler, reminder service and overdue sweeper about the tasks changed since
+     * deferTracking was called, once for each task.
+     */
+    static void applyTracking() {
+        IdentityHashMap<Task, Boolean> pending = pendingTracking;
+        pendingTracking = null;
+        for (Map.Entry<Task, Boolean> entry : pending.entrySet()) {
+            if (entry.getValue()) {
+                track(entry.getKey());
+            } else {
+                cancelTracking(entry.getKey());
             }
         }
     }
 
     /**
-     * checks for finished leave in the task list.
-     * removes the finished leave if detected
+     * Forgets the tasks changed since deferTracking was called, such as when the changes have been undone.
+     * The index of similar descriptions, the completion index, the availability index and the task counts,
+     * which are not held back, are built again.
+     */
+    static void discardTracking() {
+        pendingTracking = null;
+        availabilityIndex = AvailabilityIndex.build(tasks, null);
+        recount();
+        isSortNeeded = true;
+        if (nearDuplicates != null) {
+            setNearDuplicateCheck(true);
+        }
+        if (completionIndex != null) {
+            setCompletionIndex(completionIndex);
+        }
+    }
+
+    /**
+     * Sets the completion index to be kept up to date with the assignees and descriptions of the tasks in the list,
+     * indexing every task already in the list.
+     * @param index the completion index, or null to stop keeping any index up to date
      */
-    private void checkForFinishedLeave() {
-        for (int i = 0; i < tasks.size(); i++) {
-            if (tasks.get(i) instanceof Leave && ((Leave) tasks.get(i)).getEndDate().before(new Date())) {
-                tasks.remove(tasks.get(i));
+    public static void setCompletionIndex(CompletionIndex index) {
+        completionIndex = index;
+        if (index != null) {
+            index.clear();
+            for (Task task : tasks) {
+                index.add(task);
             }
         }
     }
 
+    /**
+     * Sets the reminder service to be told about tasks being added, changed and removed.
+     * @param service the reminder service, or null to stop setting reminders
+     */
+    public static void setReminderService(ReminderService service) {
+        reminderService = service;
+    }
+
     /**
      * Shows the priority level of the task as String.
      * number of stars indicates the priority level
@@ -534,7 +909,7 @@ public class TaskList {
      * @return String containing the number of stars as the priority level
      */
     private String indicatePriorityLevel(Task task) {
-        Priority priority = task.getPriority();
+        Priority priority = getPriority(task, System.currentTimeMillis());
         String priorityLvl;
         if (priority.equals(Priority.low)) {
             priorityLvl = " *";
@@ -547,14 +922,14 @@ public class TaskList {
     }
 
     /**
-     * lists out the subtasks if the task is an Assignment.
+     * lists out the subtasks if the task is an Assignment, adding them to the view being built.
      * @param task task to be checked for subtasks.
      */
     private void showSubtasks(Task task) {
         if (task instanceof Assignment && (((Assignment) task).getSubTasks() != null)) {
             ArrayList<String> subTasks = ((Assignment) task).getSubTasks();
             for (String subtask : subTasks) {
-                System.out.println("\t" + "\t" + "- " + subtask);
+                view.append("\t\t- ").append(subtask).newLine();
             }
         }
     }
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 
 public class TempDeleteList {
     private ArrayList<Task> tempDelete;
+    private ViewBuffer view = new ViewBuffer();
 
     /**
      * Constructor for the TempDeleteList Class.
@@ -19,6 +20,14 @@ public class TempDeleteList {
         this.tempDelete = tempDelete;
     }
 
+    /**
+     * Returns the tasks in the temporary deleted list.
+     * @return the deleted tasks
+     */
+    ArrayList<Task> getTasks() {
+        return tempDelete;
+    }
+
     /**
      * Adds a Task to the temporary deleted list.
      * @param task Task that was deleted from the main list and
@@ -49,7 +58,7 @@ public class TempDeleteList {
     }
 
     /**
-     * lists the tasks in the temp delete list.
+     * lists the tasks in the temp delete list, in a single write.
      * @throws RoomShareException when the list is empty
      */
     public void list() throws RoomShareException {
@@ -58,15 +67,16 @@ public class TempDeleteList {
         } else {
             int listCount = 1;
             for (Task output : tempDelete) {
-                System.out.println("\t" + listCount + ". " + output.toString());
+                view.append("\t").append(listCount).append(". ").append(output).newLine();
                 if (output instanceof Assignment && (((Assignment) output).getSubTasks() != null)) {
                     ArrayList<String> subTasks = ((Assignment) output).getSubTasks();
                     for (String subtask : subTasks) {
-                        System.out.println("\t" + "\t" + "-" + subtask);
+                        view.append("\t\t-").append(subtask).newLine();
                     }
                 }
                 listCount += 1;
             }
+            view.flush();
         }
     }
 }
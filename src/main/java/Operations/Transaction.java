@@ -0,0 +1,86 @@
+package Operations;
+
+import Enums.SortType;
+import Model_Classes.Task;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the state of the task list, overdue list and deleted tasks from before a line of commands,
+ * so that every change made by the commands can be undone if one of them fails.
+ * While the transaction is open, the recurrence scheduler, reminder service and overdue sweeper are not told
+ * about changed tasks. They are told once for each changed task when the transaction is committed,
+ * and are never told at all if it is rolled back, as the tasks are then back to what they last saw.
+ */
+class Transaction {
+    private TempDeleteList deletedList;
+    private ArrayList<Task> tasks;
+    private ArrayList<Task> overdue;
+    private ArrayList<Task> deleted;
+    private IdentityHashMap<Task, Task> copies = new IdentityHashMap<>();
+    private SortType sortType;
+
+    /**
+     * Opens a transaction, copying every task in the lists.
+     * Should be called while holding the task list lock, which should be kept until the transaction is closed.
+     * @param deletedList the list of deleted tasks, which can be changed by deleting and restoring tasks
+     */
+    Transaction(TempDeleteList deletedList) {
+        this.deletedList = deletedList;
+        tasks = new ArrayList<>(TaskList.getCurrentList());
+        overdue = new ArrayList<>(OverdueList.getOverdueList());
+        deleted = new ArrayList<>(deletedList.getTasks());
+        copyAll(tasks);
+        copyAll(overdue);
+        copyAll(deleted);
+        sortType = TaskList.getSortType();
+        TaskList.deferTracking();
+    }
+
+    /**
+     * Keeps the changes made since the transaction was opened.
+     */
+    void commit() {
+        TaskList.applyTracking();
+    }
+
+    /**
+     * Undoes every change made since the transaction was opened.
+     * Tasks are put back in their lists and set back to their earlier state, rather than replaced,
+     * so anything holding on to a task still sees the task in the list.
+     */
+    void rollback() {
+        for (Map.Entry<Task, Task> entry : copies.entrySet()) {
+            entry.getKey().restore(entry.getValue());
+        }
+        replaceAll(TaskList.getCurrentList(), tasks);
+        replaceAll(OverdueList.getOverdueList(), overdue);
+        replaceAll(deletedList.getTasks(), deleted);
+        TaskList.discardTracking();
+        TaskList.changeSort(sortType);
+    }
+
+    /**
+     * Copies each task in a list, unless it has already been copied.
+     * @param list tasks to be copied
+     */
+    private void copyAll(ArrayList<Task> list) {
+        for (Task task : list) {
+            if (!copies.containsKey(task)) {
+                copies.put(task, task.copy());
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of a list with the tasks it held earlier, keeping the same list object.
+     * @param list list to be changed
+     * @param earlier tasks the list held earlier
+     */
+    private static void replaceAll(ArrayList<Task> list, ArrayList<Task> earlier) {
+        list.clear();
+        list.addAll(earlier);
+    }
+}
@@ -1,11 +1,14 @@
 package Operations;
 
 import Enums.SortType;
+import Enums.TaskType;
 import Enums.TimeUnit;
 import Enums.Color;
 import Enums.HelpMessage;
+import Model_Classes.Task;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
 
 /**
  * Class to tell user about errors and completion of operations.
@@ -92,6 +95,11 @@ public class Ui {
         System.out.println("Listing tasks in the common task list...");
     }
 
+    void showPage(int page, int pageCount, int first, int last, int total) {
+        System.out.println("Listing page " + page + " of " + pageCount + " (tasks " + first + " to " + last
+                + " of " + total + ")...");
+    }
+
     /**
      * Tells the user that an invalid command has been input into RoomShare.
      */
@@ -106,6 +114,13 @@ public class Ui {
         System.out.println("You have some recurring tasks that need to be cleared, please check them:");
     }
 
+    /**
+     * Tells the user that tasks have passed their deadlines and were moved into the overdue list.
+     */
+    public void showOverdueSwept() {
+        System.out.println("Some of your tasks are now overdue, and have been moved to your overdue list");
+    }
+
     /**
      * tells the user that the requested task has been snoozed.
      */
@@ -155,10 +170,6 @@ public class Ui {
         System.out.println("Great! I've updated task " + index);
     }
 
-    public static void clearScreen() throws IOException, InterruptedException {
-        new ProcessBuilder("cmd", "/c", "cls").inheritIO().start().waitFor();
-    }
-
     public void showBar(String bar) {
         System.out.println(bar);
     }
@@ -203,4 +214,214 @@ public class Ui {
     public void showDoneList() {
         System.out.println("These are the tasks that you have already done:");
     }
+
+    /**
+     * Lists out every pair of clashing meetings.
+     * @param clashes index pairs of the clashing meetings
+     * @param tasks list of tasks the clashes were found in
+     */
+    public void showClashes(ArrayList<int[]> clashes, ArrayList<Task> tasks) {
+        for (int[] clash : clashes) {
+            System.out.println("\tTask " + (clash[0] + 1) + " clashes with task " + (clash[1] + 1) + ":");
+            System.out.println("\t\t" + tasks.get(clash[0]).toString());
+            System.out.println("\t\t" + tasks.get(clash[1]).toString());
+        }
+    }
+
+    public void showClashesFound(int count) {
+        System.out.println("There are " + count + " time clashes in your task list:");
+    }
+
+    public void showClashesOfAssignee(String assignee) {
+        System.out.println("Clashes involving " + assignee + ":");
+    }
+
+    public void showNoClashes() {
+        System.out.println("There are no time clashes in your task list!");
+    }
+
+    /**
+     * Lists out the free windows found for a new meeting.
+     * @param slots list of windows, each as an array of its start and end date
+     */
+    public void showSlots(ArrayList<Date[]> slots) {
+        System.out.println("These are the next free time slots:");
+        int listCount = 1;
+        for (Date[] slot : slots) {
+            System.out.println("\t" + listCount + ". From: " + slot[0] + " To: " + slot[1]);
+            listCount += 1;
+        }
+    }
+
+    public void showFindSlotHint() {
+        System.out.println("Type 'findslot' followed by the duration of your meeting to look for a free time slot");
+    }
+
+    /**
+     * Tells the user which people are on leave or busy at the time of a task.
+     * @param people list of people who are unavailable
+     */
+    public void showUnavailable(ArrayList<String> people) {
+        System.out.println("Take note, these people are on leave or busy at that time: " + String.join(", ", people));
+    }
+
+    /**
+     * Warns the user that a task was updated to be assigned to everyone, in case the assignee was mistyped.
+     */
+    public void showAssigneeSetToEveryone() {
+        System.out.println("Take note, the task is now assigned to everyone. If you did not mean to do this, "
+                + "please check your entry of the assignee field");
+    }
+
+    /**
+     * Warns the user that a new task looks similar to tasks already in the list.
+     * @param similar list of tasks with a similar description
+     */
+    public void showNearDuplicateWarning(ArrayList<Task> similar) {
+        System.out.println("Take note, your task looks similar to these tasks:");
+        for (Task task : similar) {
+            System.out.println("\t" + task.toString());
+        }
+    }
+
+    /**
+     * Lists out the people who are on leave at a certain time.
+     * @param people list of people on leave
+     * @param date time that was checked
+     */
+    public void showAway(ArrayList<String> people, Date date) {
+        if (people.isEmpty()) {
+            System.out.println("Nobody is on leave on " + date);
+        } else {
+            System.out.println("These people are on leave on " + date + ": " + String.join(", ", people));
+        }
+    }
+
+    /**
+     * Shows the summary of a bulk import.
+     * @param importer the importer that has finished importing
+     */
+    public void showImportSummary(BulkImporter importer) {
+        System.out.println("Imported " + importer.getImportedCount() + " tasks into the task list");
+        if (!importer.getDuplicates().isEmpty()) {
+            System.out.println("Skipped " + importer.getDuplicates().size() + " duplicate tasks:");
+            for (String duplicate : importer.getDuplicates()) {
+                System.out.println("\t" + duplicate);
+            }
+        }
+        if (!importer.getErrors().isEmpty()) {
+            System.out.println("Skipped " + importer.getErrors().size() + " lines with formatting errors:");
+            for (String error : importer.getErrors()) {
+                System.out.println("\t" + error);
+            }
+        }
+    }
+
+    /**
+     * Lists out every pair of tasks with similar descriptions.
+     * @param pairs index pairs of the similar tasks
+     * @param tasks list of tasks the pairs were found in
+     */
+    public void showNearDuplicates(ArrayList<int[]> pairs, ArrayList<Task> tasks) {
+        if (pairs.isEmpty()) {
+            System.out.println("There are no tasks with similar descriptions in your task list!");
+            return;
+        }
+        System.out.println("These tasks look similar, you might want to delete one of them:");
+        for (int[] pair : pairs) {
+            System.out.println("\tTask " + (pair[0] + 1) + " and task " + (pair[1] + 1) + ":");
+            System.out.println("\t\t" + tasks.get(pair[0]).toString());
+            System.out.println("\t\t" + tasks.get(pair[1]).toString());
+        }
+    }
+
+    public void showNearDuplicateCheck(boolean isOn) {
+        System.out.println("Checking for similar tasks when adding has been turned " + (isOn ? "on" : "off"));
+    }
+
+    public void showMissedRecording(boolean isOn) {
+        System.out.println("Recording missed occurrences of recurring tasks has been turned " + (isOn ? "on" : "off"));
+    }
+
+    public void showPriorityAging(boolean isOn) {
+        System.out.println("Raising the priority of tasks with near deadlines has been turned " + (isOn ? "on" : "off"));
+    }
+
+    /**
+     * Shows the suggested completions of the word being typed.
+     * @param completions the completions, most likely first
+     */
+    public void showCompletions(ArrayList<String> completions) {
+        if (completions.isEmpty()) {
+            System.out.println("There are no suggestions for what you have typed");
+        } else {
+            System.out.println("Suggestions: " + String.join("  ", completions));
+        }
+    }
+
+    public void showMissedRecorded(int missed) {
+        System.out.println(missed + " missed occurrence(s) of recurring tasks have been recorded in the overdue list");
+    }
+
+    /**
+     * Shows the reminders which came due together, with a single beep from the terminal.
+     * @param tasks tasks whose reminders are due
+     * @param dropped number of other reminders which came due but could not be kept
+     */
+    public void showReminders(ArrayList<Task> tasks, int dropped) {
+        System.out.println("\007Reminder! These task(s) are due:");
+        for (Task task : tasks) {
+            System.out.println("\t" + task.getDescription());
+        }
+        if (dropped > 0) {
+            System.out.println("\tand " + dropped + " other task(s)");
+        }
+    }
+
+    /**
+     * Shows the reminders which came due while RoomShare was closed, all at once.
+     * @param tasks tasks whose reminders were missed
+     */
+    public void showMissedReminders(ArrayList<Task> tasks) {
+        System.out.println("While you were away, you were to be reminded of " + tasks.size() + " task(s):");
+        for (Task task : tasks) {
+            System.out.println("\t" + task.getDescription());
+        }
+    }
+
+    /**
+     * Shows how long a script took to run, and the time taken by each kind of command in it.
+     * @param commandCount number of commands in the script
+     * @param totalNanos time taken by the whole script in nanoseconds
+     * @param metrics metrics recorded while running the script
+     */
+    public void showBatchReport(int commandCount, long totalNanos, CommandMetrics metrics) {
+        System.out.printf("Ran %d command(s) in %.1f ms, saving %d time(s)%n", commandCount, totalNanos / 1e6,
+                metrics.getSaves());
+        for (TaskType type : TaskType.values()) {
+            long count = metrics.getCount(type);
+            if (count > 0) {
+                System.out.printf("\t%s: %d command(s), average %.3f ms, slowest %.3f ms%n", type, count,
+                        metrics.getTotalNanos(type) / 1e6 / count, metrics.getMaxNanos(type) / 1e6);
+            }
+        }
+    }
+
+    /**
+     * Tells the user that a line of commands was undone because one of them failed.
+     * @param commandCount number of commands on the line
+     */
+    public void showRolledBack(int commandCount) {
+        System.out.println("None of the " + commandCount + " command(s) on the line were carried out,"
+                + " as one of them failed");
+    }
+
+    /**
+     * Shows how to start RoomShare to run a script.
+     */
+    public void showBatchUsage() {
+        System.out.println("Usage: RoomShare [--batch [file] [--checkpoint n]]\n"
+                + "\tRuns the commands in the file, or from standard input if no file is given,\n"
+                + "\tsaving every n commands as well as at the end");
+    }
 }
@@ -0,0 +1,63 @@
+package Operations;
+
+/**
+ * Builds the text of a view, such as a list of tasks, color codes included, in a buffer which is kept
+ * and reused from one view to the next, and writes it to System.out in a single write.
+ * Printing each line and color code separately makes a synchronized, flushed write for each of them,
+ * which makes showing a long list slow.
+ */
+public class ViewBuffer {
+    private static final String NEW_LINE = System.lineSeparator();
+    private StringBuilder buffer = new StringBuilder();
+
+    /**
+     * Adds text to the view.
+     * @param text text to be added
+     * @return this view buffer
+     */
+    public ViewBuffer append(String text) {
+        buffer.append(text);
+        return this;
+    }
+
+    /**
+     * Adds the text of an object to the view, such as a task or a color.
+     * @param object object to be added
+     * @return this view buffer
+     */
+    public ViewBuffer append(Object object) {
+        buffer.append(object);
+        return this;
+    }
+
+    /**
+     * Adds a number to the view.
+     * @param number number to be added
+     * @return this view buffer
+     */
+    public ViewBuffer append(int number) {
+        buffer.append(number);
+        return this;
+    }
+
+    /**
+     * Ends the current line of the view.
+     * @return this view buffer
+     */
+    public ViewBuffer newLine() {
+        buffer.append(NEW_LINE);
+        return this;
+    }
+
+    /**
+     * Writes the view to System.out in a single write, and empties the buffer for the next view.
+     */
+    public void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        System.out.print(buffer);
+        System.out.flush();
+        buffer.setLength(0);
+    }
+}
@@ -2,6 +2,8 @@ import CustomExceptions.DuplicateException;
 import CustomExceptions.RoomShareException;
 import CustomExceptions.TimeClashException;
 import Enums.ExceptionType;
+import Enums.ListType;
+import Enums.RenderType;
 import Enums.SortType;
 import Enums.TaskType;
 import Enums.TimeUnit;
@@ -9,14 +11,20 @@ import Model_Classes.ProgressBar;
 import Model_Classes.Task;
 import Operations.*;
 
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 
 /**
  * Main class of the RoomShare program.
  */
 public class RoomShare {
+    private static final int DEFAULT_SLOT_COUNT = 3;
     private Ui ui;
     private Storage storage;
     private TaskList taskList;
@@ -26,17 +34,30 @@ public class RoomShare {
     private TaskCreator taskCreator;
     private Help help;
     private ListRoutine listRoutine;
+    private RecurHandler recurHandler;
+    private RecurrenceScheduler recurrenceScheduler;
+    private ReminderService reminderService;
+    private ReminderDelivery reminderDelivery;
+    private OverdueSweeper overdueSweeper;
+    private CommandPipeline pipeline;
+    private CompletionIndex completionIndex;
+    private boolean isBatch;
 
     /**
      * Constructor of a RoomShare class. Creates all necessary objects and collections for RoomShare to run
      * Also loads the ArrayList of tasks from the data.txt file
+     * @param in the stream commands are read from
+     * @param isBatch true if the commands are a script, in which case the screen is not drawn
      */
-    private RoomShare() throws RoomShareException {
+    private RoomShare(InputStream in, boolean isBatch) throws RoomShareException {
+        this.isBatch = isBatch;
         ui = new Ui();
         help = new Help();
-        ui.startUp();
+        if (!isBatch) {
+            ui.startUp();
+        }
         storage = new Storage();
-        parser = new Parser();
+        parser = new Parser(in);
         taskCreator = new TaskCreator();
         ArrayList<Task> tempStorage = new ArrayList<>();
         tempDeleteList = new TempDeleteList(tempStorage);
@@ -56,399 +77,631 @@ public class RoomShare {
             overdueList = new OverdueList(emptyList);
         }
         listRoutine = new ListRoutine(taskList, overdueList);
-        RecurHandler recurHandler = new RecurHandler(taskList);
-        if (recurHandler.checkRecurrence()) {
+        CommandRegistry registry = createCommands();
+        completionIndex = new CompletionIndex(registry.getWords());
+        TaskList.setCompletionIndex(completionIndex);
+        pipeline = new CommandPipeline(registry, ui, storage, listRoutine, tempDeleteList,
+                "data.txt", "overdue.txt");
+        if (!isBatch) {
+            pipeline.setScreen(Screen.forTerminal());
+        }
+        reportClashes(false);
+        recurHandler = new RecurHandler(taskList);
+        recurrenceScheduler = new RecurrenceScheduler(recurHandler, this::showRollOver);
+        TaskList.setRecurrenceScheduler(recurrenceScheduler);
+        reminderDelivery = new ReminderDelivery(ui);
+        reminderDelivery.start();
+        reminderService = new ReminderService(reminderDelivery::offer);
+        TaskList.setReminderService(reminderService);
+        ArrayList<Task> missedReminders = reminderService.start(TaskList.getCurrentList());
+        if (!missedReminders.isEmpty()) {
+            ui.showMissedReminders(missedReminders);
+        }
+        if (recurrenceScheduler.start(TaskList.getCurrentList())) {
             ui.showChangeInTaskList();
-            taskList.list(overdueList);
+            showMissedRecorded();
+            if (!isBatch) {
+                taskList.list(overdueList);
+            }
+        }
+        overdueSweeper = new OverdueSweeper(this::showSwept);
+        TaskList.setOverdueSweeper(overdueSweeper);
+        if (overdueSweeper.start(TaskList.getCurrentList())) {
+            ui.showOverdueSwept();
+        }
+        if (!isBatch) {
+            listRoutine.list();
         }
-        listRoutine.list();
     }
 
     /**
      * Deals with the operation flow of RoomShare.
+     * Each command runs while holding the task list lock, so the recurrence scheduler never changes tasks
+     * mid-command.
      */
-    private void run() throws RoomShareException, IOException, InterruptedException {
+    private void run() throws IOException, InterruptedException {
         boolean isExit = false;
-        while (!isExit) {
-            TaskType type;
-            try {
-                String command = parser.getCommand();
-                type = TaskType.valueOf(command);
-            } catch (IllegalArgumentException e) {
-                type = TaskType.others;
-            }
-            switch (type) {
-            case help:
-                Ui.clearScreen();
-                ui.startUp();
-                help.showHelp(parser.getCommandLine());
-                break;
-
-            case bye:
-                isExit = true;
-                try {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                }
-                try {
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                } catch (RoomShareException e) {
-                    ui.showError(e);
+        while (!isExit && parser.hasCommand()) {
+            isExit = runNextLine();
+        }
+    }
+
+    /**
+     * Runs every command in a script without drawing the screen, then reports the time taken by each command.
+     * The lists are saved at the end of the script, and every given number of commands along the way.
+     * @param checkpoint number of commands between saves, or 0 to only save at the end
+     */
+    private void runBatch(int checkpoint) throws IOException, InterruptedException {
+        CommandMetrics metrics = new CommandMetrics();
+        pipeline.setRendering(false);
+        pipeline.setSavingDeferred(true);
+        pipeline.setMetrics(metrics);
+        long start = System.nanoTime();
+        int commandCount = 0;
+        boolean isExit = false;
+        while (!isExit && parser.hasCommand()) {
+            isExit = runNextLine();
+            commandCount++;
+            if (checkpoint > 0 && commandCount % checkpoint == 0) {
+                synchronized (TaskList.getLock()) {
+                    pipeline.flush();
                 }
+            }
+        }
+        synchronized (TaskList.getLock()) {
+            pipeline.flush();
+        }
+        ui.showBatchReport(commandCount, System.nanoTime() - start, metrics);
+    }
+
+    /**
+     * Reads and carries out the next line of input, which is either a single command,
+     * or several commands separated by ';' to be carried out together, if every part of the line
+     * starts with a command word.
+     * Recurring tasks which are due are rolled over, and overdue tasks swept, first, in case the timers
+     * were held up. If any were, both lists are saved and the change is shown, as when the timers do it.
+     * @return true if the command ends the program
+     */
+    private boolean runNextLine() throws IOException, InterruptedException {
+        String command = parser.getCommand();
+        String input = parser.getCommandLine();
+        synchronized (TaskList.getLock()) {
+            boolean isRolled = recurrenceScheduler.checkDue();
+            boolean isSwept = overdueSweeper.checkDue();
+            if (isRolled) {
+                ui.showChangeInTaskList();
+                showMissedRecorded();
+            }
+            if (isSwept) {
+                ui.showOverdueSwept();
+            }
+            if (isRolled || isSwept) {
+                saveAndList();
+            }
+            String line = command + " " + input;
+            if (pipeline.isTransaction(line)) {
+                pipeline.runTransaction(line);
+                return false;
+            }
+            return pipeline.run(CommandRegistry.getType(command), input);
+        }
+    }
+
+    /**
+     * Registers the command for every command word, with the lists it may change and how the screen is drawn.
+     * @return the registry of commands
+     */
+    private CommandRegistry createCommands() {
+        EnumSet<ListType> none = EnumSet.noneOf(ListType.class);
+        EnumSet<ListType> tasks = EnumSet.of(ListType.tasks);
+        EnumSet<ListType> overdue = EnumSet.of(ListType.overdue);
+        EnumSet<ListType> both = EnumSet.allOf(ListType.class);
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(TaskType.help, Command.of(RenderType.header, none, help::showHelp));
+        registry.register(TaskType.bye, new Command() {
+            @Override
+            public void execute(String input) {
                 parser.close();
                 ui.showBye();
-                break;
-
-            case list:
-                Ui.clearScreen();
-                ui.startUp();
-                listRoutine.list();
-                break;
-
-            case done:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    if(input.split(" ")[0].equals("subtask")) {
-                        taskList.doneSubTask(input);
-                    } else {
-                        int[] index = parser.getIndexRange(input);
-                        taskList.done(index);
-                        ui.showDone();
-                    }
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case delete:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    int[] index = parser.getIndexRange(input);
-                    taskList.delete(index, tempDeleteList);
-                    ui.showDeleted(index);
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case removeoverdue:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    int[] index = parser.getIndexRange(input);
-                    overdueList.remove(index, tempDeleteList);
-                    ui.showDeleted(index);
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case restore:
-                Ui.clearScreen();
-                ui.startUp();
-                ui.showRestoreList();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    tempDeleteList.list();
-                    int restoreIndex = parser.getIndex(input);
-                    tempDeleteList.restore(restoreIndex, taskList);
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case find:
-                Ui.clearScreen();
-                ui.startUp();
-                listRoutine.list();
-                ui.showFind();
-                taskList.find(parser.getKey().toLowerCase());
-                break;
-
-            case priority:
-                Ui.clearScreen();
-                ui.startUp();
-                boolean success = true;
-                try {
-                    taskList.setPriority(parser.getPriority());
-                } catch (RoomShareException e) {
-                    success = false;
-                    ui.showError(e);
-                    ui.priorityInstruction();
-                } finally {
-                    if (success) {
-                        TaskList.sortTasks();
-                        ui.prioritySet();
-                    }
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case add:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    taskList.add(taskCreator.create(input));
-                    ui.showAdd();
-                } catch (RoomShareException | DuplicateException | TimeClashException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case snooze:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    int index = parser.getIndex(input);
-                    int amount = parser.getAmount(input);
-                    TimeUnit timeUnit = parser.getTimeUnit(input);
-                    if (amount < 0) {
-                        throw new RoomShareException(ExceptionType.negativeTimeAmount);
-                    }
-                    taskList.snooze(index, amount, timeUnit);
-                    ui.showSnoozeComplete(index + 1, amount, timeUnit);
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case reorder:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    int firstIndex = parser.getIndex(input, 0);
-                    int secondIndex = parser.getIndex(input, 1);
-                    taskList.reorder(firstIndex, secondIndex);
-                    ui.showReordering();
-                } catch (RoomShareException e) {
-                    ui.showError(e);;
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case subtask:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    int index = parser.getIndexSubtask(input);
-                    String subTasks = parser.getSubTasks(input);
-                    new subTaskCreator(index, subTasks);
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case update:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    int index = parser.getIndex(input);
-                    Task oldTask = TaskList.get(index);
-                    taskCreator.updateTask(input,oldTask);
-                    ui.showUpdated(index+1);
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-                
-            case sort:
-                Ui.clearScreen();
-                ui.startUp();
-                SortType sortType;
-                try {
-                    String input = parser.getCommandLine().trim();
-                    sortType = parser.getSort(input);
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                    sortType = SortType.priority;
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                TaskList.changeSort(sortType);
-                ui.showChangeInPriority(sortType);
-                listRoutine.list();
-                break;
-
-            case log:
-                Ui.clearScreen();
-                ui.startUp();
-                listRoutine.list();
-                try {
-                    String filePath = storage.writeLogFile(TaskList.getCurrentList());
-                    ui.showLogSuccess(filePath);
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                break;
-
-            case overdue:
-                Ui.clearScreen();
-                ui.startUp();
-                listRoutine.list();
-                ui.showOverdueList();
-                try {
-                    overdueList.list();
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                }
-                try {
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                }
-                break;
-
-            case reschedule:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    overdueList.list();
-                    String input = parser.getCommandLine();
-                    String[] range = input.split(" ");
-                   int[] indexes = parser.getIndexRange(range[0]);
-                      if (indexes.length != 1) {
-                          for (int i = indexes[0]; i <= indexes[1]; i++) {
-                              Task oldTask = overdueList.get(i);
-                              taskCreator.rescheduleTask(input, oldTask);
-                              ui.showUpdated(i + 1);
-                          }
-                    } else {
-                          Task oldTask = overdueList.get(indexes[0]);
-                          taskCreator.rescheduleTask(input, oldTask);
-                          ui.showUpdated(indexes[0] + 1);
-                      }
-                    overdueList.reschedule(indexes, taskList);
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                listRoutine.list();
-                break;
-
-            case show:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine().trim();
-                    if (input.equals("deleted")) {
-                        ui.showDeletedList();
-                        try {
-                            tempDeleteList.list();
-                        } catch (RoomShareException e) {
-                            ui.showError(e);
-                        }
-                    } else {
-                        ui.showTagged(input);
-                        int[] doneArray = taskList.listTagged(input);
-                        ui.showTaggedPercentage(input);
-                        ProgressBar progressBar = new ProgressBar(doneArray[0], doneArray[1]);
-                        ui.showBar(progressBar.showBar());
-                    }
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                } finally {
-                    storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                }
-                break;
-
-            case reopen:
-                Ui.clearScreen();
-                ui.startUp();
-                try {
-                    String input = parser.getCommandLine();
-                    int index = parser.getIndex(input);
-                    ArrayList<Date> date = taskCreator.extractDate(input);
-                    taskList.reopen(index,date.get(0));
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                }
-                storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                listRoutine.list();
-                ui.showDoneList();
-                taskList.showCompleted();
-                break;
-
-            default:
-                Ui.clearScreen();
-                ui.startUp();
-                ui.showError(new RoomShareException(ExceptionType.invalidCommand));
-                listRoutine.list();
-                storage.writeFile(TaskList.getCurrentList(), "data.txt");
-                try {
-                    storage.writeFile(OverdueList.getOverdueList(), "overdue.txt");
-                } catch (RoomShareException e) {
-                    ui.showError(e);
-                }
-                break;
             }
+
+            @Override
+            public EnumSet<ListType> getTouchedLists() {
+                return both;
+            }
+
+            @Override
+            public RenderType getRenderType() {
+                return RenderType.none;
+            }
+
+            @Override
+            public boolean isExit() {
+                return true;
+            }
+        });
+        registry.register(TaskType.list, Command.of(RenderType.listAfter, none, this::list));
+        registry.register(TaskType.done, Command.of(RenderType.listAfter, tasks, this::markDone));
+        registry.register(TaskType.delete, Command.of(RenderType.listAfter, tasks, this::delete));
+        registry.register(TaskType.removeoverdue, Command.of(RenderType.listAfter, overdue, this::removeOverdue));
+        registry.register(TaskType.restore, Command.of(RenderType.listAfter, tasks, this::restore));
+        registry.register(TaskType.find, Command.of(RenderType.listBefore, none, this::find));
+        registry.register(TaskType.priority, Command.of(RenderType.listAfter, tasks, this::setPriority));
+        registry.register(TaskType.add, Command.of(RenderType.listAfter, tasks, this::add));
+        registry.register(TaskType.snooze, Command.of(RenderType.listAfter, tasks, this::snooze));
+        registry.register(TaskType.reorder, Command.of(RenderType.listAfter, tasks, this::reorder));
+        registry.register(TaskType.subtask, Command.of(RenderType.listAfter, tasks, this::addSubTasks));
+        registry.register(TaskType.update, Command.of(RenderType.listAfter, tasks, this::update));
+        registry.register(TaskType.sort, Command.of(RenderType.listAfter, none, this::sort));
+        registry.register(TaskType.log, Command.of(RenderType.listBefore, none, this::log));
+        registry.register(TaskType.overdue, Command.of(RenderType.listBefore, none, this::showOverdue));
+        registry.register(TaskType.reschedule, Command.of(RenderType.listAfter, both, this::reschedule));
+        registry.register(TaskType.show, Command.of(RenderType.header, none, this::show));
+        registry.register(TaskType.reopen, Command.of(RenderType.listAfter, tasks, this::reopen));
+        registry.register(TaskType.clashes, Command.of(RenderType.listBefore, none, this::showClashes));
+        registry.register(TaskType.findslot, Command.of(RenderType.listBefore, none, this::findSlot));
+        registry.register(TaskType.away, Command.of(RenderType.listBefore, none, this::showAway));
+        registry.register(TaskType.importfile, Command.of(RenderType.listAfter, tasks, this::importFile));
+        registry.register(TaskType.dedupe, Command.of(RenderType.listBefore, none, this::dedupe));
+        registry.register(TaskType.missed, Command.of(RenderType.listBefore, none, this::setRecordingMissed));
+        registry.register(TaskType.aging, Command.of(RenderType.listAfter, none, this::setPriorityAging));
+        registry.register(TaskType.complete, Command.of(RenderType.none, none, this::complete));
+        return registry;
+    }
+
+    /**
+     * Marks the tasks in a range as done, or a sub-task of an assignment.
+     * @param input the rest of the line the user entered
+     */
+    private void markDone(String input) throws RoomShareException {
+        if (input.split(" ")[0].equals("subtask")) {
+            taskList.doneSubTask(input);
+        } else {
+            int[] index = parser.getIndexRange(input);
+            taskList.done(index);
+            ui.showDone();
         }
     }
 
+    /**
+     * Deletes the tasks in a range, keeping them so that they can be restored.
+     * @param input the rest of the line the user entered
+     */
+    private void delete(String input) throws RoomShareException {
+        int[] index = parser.getIndexRange(input);
+        taskList.delete(index, tempDeleteList);
+        ui.showDeleted(index);
+    }
+
+    /**
+     * Removes the tasks in a range from the overdue list.
+     * @param input the rest of the line the user entered
+     */
+    private void removeOverdue(String input) throws RoomShareException {
+        int[] index = parser.getIndexRange(input);
+        overdueList.remove(index, tempDeleteList);
+        ui.showDeleted(index);
+    }
+
+    /**
+     * Shows the deleted tasks and restores one of them.
+     * @param input the rest of the line the user entered
+     */
+    private void restore(String input) throws RoomShareException {
+        ui.showRestoreList();
+        tempDeleteList.list();
+        int restoreIndex = parser.getIndex(input);
+        tempDeleteList.restore(restoreIndex, taskList);
+    }
+
+    /**
+     * Shows the tasks containing a keyword.
+     * @param input the rest of the line the user entered
+     */
+    private void find(String input) {
+        ui.showFind();
+        taskList.find(parser.getKey(input).toLowerCase());
+    }
+
+    /**
+     * Sets the priority of a task, showing how to set it if the input is wrong.
+     * @param input the rest of the line the user entered
+     */
+    private void setPriority(String input) throws RoomShareException {
+        try {
+            taskList.setPriority(parser.getPriority(input));
+        } catch (RoomShareException e) {
+            ui.priorityInstruction();
+            throw e;
+        }
+        TaskList.sortTasks();
+        ui.prioritySet();
+    }
+
+    /**
+     * Adds a new task.
+     * @param input the rest of the line the user entered
+     */
+    private void add(String input) throws RoomShareException, DuplicateException, TimeClashException {
+        taskList.add(taskCreator.create(input));
+        ui.showAdd();
+    }
+
+    /**
+     * Pushes back the date of a task, and shows who is unavailable and any clashes at the new time.
+     * @param input the rest of the line the user entered
+     */
+    private void snooze(String input) throws RoomShareException {
+        int index = parser.getIndex(input);
+        int amount = parser.getAmount(input);
+        TimeUnit timeUnit = parser.getTimeUnit(input);
+        if (amount < 0) {
+            throw new RoomShareException(ExceptionType.negativeTimeAmount);
+        }
+        taskList.snooze(index, amount, timeUnit);
+        ui.showSnoozeComplete(index + 1, amount, timeUnit);
+        ArrayList<String> unavailable = CheckAnomaly.findUnavailable(TaskList.get(index));
+        if (!unavailable.isEmpty()) {
+            ui.showUnavailable(unavailable);
+        }
+        reportClashes(false);
+    }
+
+    /**
+     * Swaps the positions of two tasks.
+     * @param input the rest of the line the user entered
+     */
+    private void reorder(String input) throws RoomShareException {
+        int firstIndex = parser.getIndex(input, 0);
+        int secondIndex = parser.getIndex(input, 1);
+        taskList.reorder(firstIndex, secondIndex);
+        ui.showReordering();
+    }
+
+    /**
+     * Adds sub-tasks to an assignment.
+     * @param input the rest of the line the user entered
+     */
+    private void addSubTasks(String input) throws RoomShareException {
+        int index = parser.getIndexSubtask(input);
+        String subTasks = parser.getSubTasks(input);
+        new subTaskCreator(index, subTasks);
+    }
+
+    /**
+     * Updates the fields of a task.
+     * @param input the rest of the line the user entered
+     */
+    private void update(String input) throws RoomShareException {
+        int index = parser.getIndex(input);
+        Task oldTask = TaskList.get(index);
+        taskCreator.updateTask(input, oldTask);
+        ui.showUpdated(index + 1);
+    }
+
+    /**
+     * Changes how the task list is sorted, sorting by priority and failing if the input is wrong.
+     * @param input the rest of the line the user entered
+     */
+    private void sort(String input) throws RoomShareException {
+        SortType sortType;
+        try {
+            sortType = parser.getSort(input);
+        } catch (RoomShareException e) {
+            TaskList.changeSort(SortType.priority);
+            ui.showChangeInPriority(SortType.priority);
+            throw e;
+        }
+        TaskList.changeSort(sortType);
+        ui.showChangeInPriority(sortType);
+    }
+
+    /**
+     * Writes the task list to a log file.
+     * @param input the rest of the line the user entered
+     */
+    private void log(String input) throws RoomShareException {
+        String filePath = storage.writeLogFile(TaskList.getCurrentList());
+        ui.showLogSuccess(filePath);
+    }
+
+    /**
+     * Shows the overdue list.
+     * @param input the rest of the line the user entered
+     */
+    private void showOverdue(String input) throws RoomShareException {
+        ui.showOverdueList();
+        overdueList.list();
+    }
+
+    /**
+     * Moves the overdue tasks in a range back into the task list with new dates.
+     * @param input the rest of the line the user entered
+     */
+    private void reschedule(String input) throws RoomShareException {
+        overdueList.list();
+        String[] range = input.split(" ");
+        int[] indexes = parser.getIndexRange(range[0]);
+        if (indexes.length != 1) {
+            for (int i = indexes[0]; i <= indexes[1]; i++) {
+                Task oldTask = overdueList.get(i);
+                taskCreator.rescheduleTask(input, oldTask);
+                ui.showUpdated(i + 1);
+            }
+        } else {
+            Task oldTask = overdueList.get(indexes[0]);
+            taskCreator.rescheduleTask(input, oldTask);
+            ui.showUpdated(indexes[0] + 1);
+        }
+        overdueList.reschedule(indexes, taskList);
+    }
+
+    /**
+     * Shows the deleted tasks, or the tasks of a person with their progress.
+     * @param input the rest of the line the user entered
+     */
+    private void show(String input) throws RoomShareException {
+        if (input.equals("deleted")) {
+            ui.showDeletedList();
+            tempDeleteList.list();
+        } else {
+            ui.showTagged(input);
+            int[] doneArray = taskList.listTagged(input);
+            ui.showTaggedPercentage(input);
+            ProgressBar progressBar = new ProgressBar(doneArray[0], doneArray[1]);
+            ui.showBar(progressBar.showBar());
+        }
+    }
+
+    /**
+     * Marks a completed task as not done with a new date.
+     * The completed tasks are shown with the task list afterwards.
+     * @param input the rest of the line the user entered
+     */
+    private void reopen(String input) throws RoomShareException {
+        int index = parser.getIndex(input);
+        ArrayList<Date> date = taskCreator.extractDate(input);
+        taskList.reopen(index, date.get(0));
+    }
+
+    /**
+     * Shows clashing meetings, grouped by the people involved if asked for.
+     * @param input the rest of the line the user entered
+     */
+    private void showClashes(String input) {
+        if (!reportClashes(input.equals("assignee"))) {
+            ui.showNoClashes();
+        }
+    }
+
+    /**
+     * Shows the earliest free slots of a given length for a person, three unless another number is given.
+     * @param input the rest of the line the user entered
+     */
+    private void findSlot(String input) throws RoomShareException {
+        long duration = parser.getDuration(input);
+        int count = parser.getCount(input, DEFAULT_SLOT_COUNT);
+        String assignee = taskCreator.extractAssignee(input);
+        Date after = new Date();
+        if (input.contains("&")) {
+            after = taskCreator.extractDate(input).get(0);
+        }
+        ui.showSlots(TaskList.getAvailabilityIndex().findSlots(assignee, after, duration, count));
+    }
+
+    /**
+     * Shows who is on leave at a given time.
+     * @param input the rest of the line the user entered
+     */
+    private void showAway(String input) throws RoomShareException {
+        Date date = parser.getDate(input);
+        ui.showAway(TaskList.getAvailabilityIndex().getAway(date), date);
+    }
+
+    /**
+     * Adds every task in a file, and shows a summary and any clashes.
+     * Fails after the summary if any line of the file could not be read as a task, so that a line of commands
+     * the import is part of is undone.
+     * @param input the rest of the line the user entered
+     */
+    private void importFile(String input) throws RoomShareException {
+        BulkImporter importer = new BulkImporter(taskCreator, storage);
+        importer.importFile(parser.getOriginalCase(input.trim()), taskList);
+        ui.showImportSummary(importer);
+        if (importer.getClashes().isEmpty()) {
+            ui.showNoClashes();
+        } else {
+            ui.showClashesFound(importer.getClashes().size());
+            ui.showClashes(importer.getClashes(), TaskList.getCurrentList());
+        }
+        if (!importer.getErrors().isEmpty()) {
+            throw new RoomShareException(ExceptionType.wrongFormat);
+        }
+    }
+
+    /**
+     * Turns the check for similar tasks on or off, or shows the groups of similar tasks.
+     * @param input the rest of the line the user entered
+     */
+    private void dedupe(String input) {
+        if (input.equals("on") || input.equals("off")) {
+            TaskList.setNearDuplicateCheck(input.equals("on"));
+            ui.showNearDuplicateCheck(input.equals("on"));
+        } else {
+            ArrayList<Task> tasks = TaskList.getCurrentList();
+            ui.showNearDuplicates(NearDuplicateDetector.findAllSimilar(tasks), tasks);
+        }
+    }
+
+    /**
+     * Turns the recording of missed occurrences of recurring tasks on or off.
+     * @param input the rest of the line the user entered
+     */
+    private void setRecordingMissed(String input) throws RoomShareException {
+        if (!input.equals("on") && !input.equals("off")) {
+            throw new RoomShareException(ExceptionType.invalidInputString);
+        }
+        recurHandler.setRecordingMissed(input.equals("on"));
+        ui.showMissedRecording(input.equals("on"));
+    }
+
+    /**
+     * Turns priority aging on or off.
+     * @param input the rest of the line the user entered
+     */
+    private void setPriorityAging(String input) throws RoomShareException {
+        if (!input.equals("on") && !input.equals("off")) {
+            throw new RoomShareException(ExceptionType.invalidInputString);
+        }
+        TaskList.setPriorityAging(input.equals("on"));
+        ui.showPriorityAging(input.equals("on"));
+    }
+
+    /**
+     * Shows the task list, or moves between pages of it.
+     * @param input the rest of the line the user entered
+     */
+    private void list(String input) throws RoomShareException {
+        String[] words = input.split("\\s+");
+        if (input.isEmpty()) {
+            return;
+        } else if (input.equals("next")) {
+            listRoutine.nextPage();
+        } else if (input.equals("prev")) {
+            listRoutine.previousPage();
+        } else if (input.equals("all")) {
+            listRoutine.showAll();
+        } else if (words.length != 2) {
+            throw new RoomShareException(ExceptionType.invalidInputString);
+        } else if (words[0].equals("page")) {
+            listRoutine.showPage(parser.getNumber(words[1]));
+        } else if (words[0].equals("goto")) {
+            listRoutine.showPageOf(parser.getIndex(words[1]));
+        } else if (words[0].equals("size")) {
+            listRoutine.setPageSize(parser.getNumber(words[1]));
+        } else {
+            throw new RoomShareException(ExceptionType.invalidInputString);
+        }
+    }
+
+    /**
+     * Suggests completions for the last word of a partly typed command.
+     * @param input the command typed so far
+     */
+    private void complete(String input) {
+        ui.showCompletions(completionIndex.complete(input));
+    }
+
+    /**
+     * Shows the task list again after the recurrence scheduler has rolled recurring tasks over,
+     * and saves the changes.
+     */
+    private void showRollOver() {
+        ui.showChangeInTaskList();
+        showMissedRecorded();
+        saveAndList();
+    }
+
+    /**
+     * Shows the task list again after the overdue sweeper has moved tasks into the overdue list,
+     * and saves the changes.
+     */
+    private void showSwept() {
+        ui.showOverdueSwept();
+        saveAndList();
+    }
+
+    /**
+     * Saves both lists and shows the task list again, after they were changed outside of a command.
+     * Saving goes through the pipeline, so it is put off in the same way as saving after commands.
+     */
+    private void saveAndList() {
+        pipeline.save(EnumSet.allOf(ListType.class));
+        if (!isBatch) {
+            listRoutine.list();
+        }
+    }
+
+    /**
+     * Shows how many missed occurrences of recurring tasks were just recorded in the overdue list, if any.
+     */
+    private void showMissedRecorded() {
+        int missed = recurrenceScheduler.takeMissedRecorded();
+        if (missed > 0) {
+            ui.showMissedRecorded(missed);
+        }
+    }
+
+    /**
+     * Checks the whole task list for clashing meetings and shows them, if any.
+     * @param isGroupedByAssignee whether the clashes should be grouped by the people involved
+     * @return true if any clashes were found
+     */
+    private boolean reportClashes(boolean isGroupedByAssignee) {
+        ArrayList<Task> tasks = TaskList.getCurrentList();
+        ArrayList<int[]> clashes = ClashDetector.findClashes(tasks);
+        if (clashes.isEmpty()) {
+            return false;
+        }
+        ui.showClashesFound(clashes.size());
+        if (isGroupedByAssignee) {
+            LinkedHashMap<String, ArrayList<int[]>> groups = ClashDetector.groupByAssignee(tasks, clashes);
+            for (String assignee : groups.keySet()) {
+                ui.showClashesOfAssignee(assignee);
+                ui.showClashes(groups.get(assignee), tasks);
+            }
+        } else {
+            ui.showClashes(clashes, tasks);
+        }
+        return true;
+    }
+
     /**
      * Main function of RoomShare.
-     * Creates a new instance of RoomShare class
+     * Creates a new instance of RoomShare class, which reads commands from the user,
+     * or runs a script when started with --batch [file] [--checkpoint n].
+     * Without a file, the script is read from standard input, so that it can be piped in.
      * @param args command line arguments
      * @throws RoomShareException Custom exception class within RoomShare program
      */
     public static void main(String[] args) throws RoomShareException, IOException, InterruptedException {
-        new RoomShare().run();
+        if (args.length == 0) {
+            new RoomShare(System.in, false).run();
+            System.exit(0);
+        }
+        Ui ui = new Ui();
+        String fileName = null;
+        int checkpoint = 0;
+        try {
+            if (!args[0].equals("--batch")) {
+                throw new IllegalArgumentException();
+            }
+            for (int i = 1; i < args.length; i++) {
+                if (args[i].equals("--checkpoint") && i + 1 < args.length) {
+                    checkpoint = Integer.parseInt(args[++i]);
+                } else if (fileName == null && !args[i].startsWith("--")) {
+                    fileName = args[i];
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            }
+            if (checkpoint < 0) {
+                throw new IllegalArgumentException();
+            }
+        } catch (IllegalArgumentException e) {
+            ui.showBatchUsage();
+            System.exit(1);
+        }
+        InputStream in = System.in;
+        if (fileName != null) {
+            try {
+                in = new FileInputStream(fileName);
+            } catch (FileNotFoundException e) {
+                ui.showError(new RoomShareException(ExceptionType.loadError));
+                System.exit(1);
+            }
+        }
+        new RoomShare(in, true).runBatch(checkpoint);
         System.exit(0);
     }
 }
@@ -9,6 +9,8 @@ import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class AssignmentTest {
     private static SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy HH:mm");
@@ -53,4 +55,16 @@ public class AssignmentTest {
     void getRecurrenceSchedule() {
         assertEquals(assignment.getRecurrenceSchedule(), RecurrenceScheduleType.none);
     }
+
+    @Test
+    void toStringIsKeptUntilChanged() {
+        Assignment task = new Assignment("pay rent", new Date(date.getTime()));
+        String shown = task.toString();
+        assertSame(shown, task.toString());
+        task.snoozeDay(1);
+        assertNotEquals(shown, task.toString());
+        assertEquals("[A] pay rent (everyone) (by: " + task.getDate() + ")", task.toString());
+        task.setAssignee("harry");
+        assertEquals("[A] pay rent (harry) (by: " + task.getDate() + ")", task.toString());
+    }
 }
@@ -0,0 +1,65 @@
+import CustomExceptions.RoomShareException;
+import Enums.TimeUnit;
+import Model_Classes.Assignment;
+import Model_Classes.Leave;
+import Model_Classes.Meeting;
+import Model_Classes.Task;
+import Operations.AvailabilityIndex;
+import Operations.Parser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AvailabilityIndexTest {
+    private static final Parser parser = new Parser();
+    private ArrayList<Task> tasks = new ArrayList<>();
+    private AvailabilityIndex index;
+
+    {
+        try {
+            tasks.add(new Leave("holiday", "kelly", parser.formatDateDDMMYY("12/12/2019 00:00"),
+                    parser.formatDateDDMMYY("14/12/2019 00:00")));
+            Meeting meeting = new Meeting("meeting", parser.formatDateDDMMYY("12/12/2019 09:00"), 2, TimeUnit.hours);
+            meeting.setAssignee("harry");
+            tasks.add(meeting);
+            index = AvailabilityIndex.build(tasks, null);
+        } catch (RoomShareException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    void getAway() throws RoomShareException {
+        assertEquals("[kelly]", index.getAway(parser.formatDateDDMMYY("13/12/2019 12:00")).toString());
+        assertTrue(index.getAway(parser.formatDateDDMMYY("14/12/2019 12:00")).isEmpty());
+    }
+
+    @Test
+    void getUnavailable() throws RoomShareException {
+        Assignment assignment = new Assignment("report", parser.formatDateDDMMYY("12/12/2019 10:00"));
+        assignment.setAssignee("harry");
+        assertEquals("[harry]", index.getUnavailable(assignment, null).toString());
+        assignment.setAssignee("everyone");
+        assertEquals("[kelly]", index.getUnavailable(assignment, null).toString());
+        assignment.setAssignee("bob");
+        assertTrue(index.getUnavailable(assignment, null).isEmpty());
+    }
+
+    @Test
+    void keptUpToDate() throws RoomShareException {
+        Meeting meeting = (Meeting) tasks.get(1);
+        assertEquals("[harry]", index.getUnavailable(meeting, null).toString());
+        assertTrue(index.getUnavailable(meeting, meeting).isEmpty());
+        assertEquals("[harry]", index.getUnavailable(meeting, null).toString());
+        meeting.setDate(parser.formatDateDDMMYY("13/12/2019 09:00"));
+        index.add(meeting);
+        Assignment assignment = new Assignment("report", parser.formatDateDDMMYY("12/12/2019 10:00"));
+        assignment.setAssignee("harry");
+        assertTrue(index.getUnavailable(assignment, null).isEmpty());
+        index.remove(tasks.get(0));
+        assertTrue(index.getAway(parser.formatDateDDMMYY("13/12/2019 12:00")).isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+import CustomExceptions.RoomShareException;
+import Enums.ExceptionType;
+import Operations.BloomFilter;
+import Operations.BulkImporter;
+import Operations.Storage;
+import Operations.TaskCreator;
+import Operations.TaskList;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkImporterTest {
+    private TaskList taskList = new TaskList(new ArrayList<>());
+
+    @Test
+    void importFile() throws IOException, RoomShareException {
+        File file = File.createTempFile("import", ".txt");
+        file.deleteOnExit();
+        FileWriter writer = new FileWriter(file);
+        writer.write("add #assignment -buy milk &22/12/2099 18:00\n");
+        writer.write("#assignment -buy milk &22/12/2099 18:00\n");
+        writer.write("add #meeting -house meeting &23/12/2099 18:00 ^2 hours\n");
+        writer.write("add #meeting -dinner &23/12/2099 19:00\n");
+        writer.write("add -no type &23/12/2099 19:00\n");
+        writer.close();
+
+        BulkImporter importer = new BulkImporter(new TaskCreator(), new Storage());
+        importer.importFile(file.getPath(), taskList);
+        assertEquals(3, importer.getImportedCount());
+        assertEquals(1, importer.getDuplicates().size());
+        assertEquals(1, importer.getErrors().size());
+        assertEquals(1, importer.getClashes().size());
+        assertEquals(3, TaskList.getCurrentList().size());
+    }
+
+    @Test
+    void importMissingFile() {
+        BulkImporter importer = new BulkImporter(new TaskCreator(), new Storage());
+        RoomShareException e = assertThrows(RoomShareException.class, () ->
+                importer.importFile("no such file.txt", taskList));
+        assertEquals(new RoomShareException(ExceptionType.loadError).toString(), e.toString());
+    }
+
+    @Test
+    void bloomFilter() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("task" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("task" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 1000; i < 11000; i++) {
+            if (filter.mightContain("task" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300);
+        assertFalse(new BloomFilter(10, 0.01).mightContain("task"));
+    }
+}
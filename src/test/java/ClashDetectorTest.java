@@ -0,0 +1,65 @@
+import CustomExceptions.RoomShareException;
+import Enums.TimeUnit;
+import Model_Classes.Assignment;
+import Model_Classes.Meeting;
+import Model_Classes.Task;
+import Operations.ClashDetector;
+import Operations.Parser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ClashDetectorTest {
+    private static final Parser parser = new Parser();
+    private ArrayList<Task> tasks = new ArrayList<>();
+
+    {
+        try {
+            Meeting meeting1 = new Meeting("meeting1", parser.formatDateDDMMYY("12/12/2019 17:00"), 2, TimeUnit.hours);
+            meeting1.setAssignee("harry");
+            Meeting meeting2 = new Meeting("meeting2", parser.formatDateDDMMYY("12/12/2019 18:00"));
+            meeting2.setAssignee("kelly");
+            Meeting meeting3 = new Meeting("meeting3", parser.formatDateDDMMYY("12/12/2019 18:30"), 1, TimeUnit.hours);
+            meeting3.setAssignee("harry");
+            Meeting meeting4 = new Meeting("meeting4", parser.formatDateDDMMYY("12/12/2019 19:00"));
+            Assignment assignment = new Assignment("assignment", parser.formatDateDDMMYY("12/12/2019 18:00"));
+            tasks.add(meeting1);
+            tasks.add(meeting2);
+            tasks.add(meeting3);
+            tasks.add(meeting4);
+            tasks.add(assignment);
+        } catch (RoomShareException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    void findClashes() {
+        ArrayList<int[]> clashes = ClashDetector.findClashes(tasks);
+        assertEquals(3, clashes.size());
+        assertArrayEquals(new int[]{0, 1}, clashes.get(0));
+        assertArrayEquals(new int[]{0, 2}, clashes.get(1));
+        assertArrayEquals(new int[]{2, 3}, clashes.get(2));
+    }
+
+    @Test
+    void noClashes() {
+        ArrayList<Task> single = new ArrayList<>();
+        single.add(tasks.get(0));
+        single.add(tasks.get(4));
+        assertEquals(0, ClashDetector.findClashes(single).size());
+    }
+
+    @Test
+    void groupByAssignee() {
+        LinkedHashMap<String, ArrayList<int[]>> groups =
+                ClashDetector.groupByAssignee(tasks, ClashDetector.findClashes(tasks));
+        assertEquals(3, groups.get("harry").size());
+        assertEquals(1, groups.get("kelly").size());
+        assertEquals(1, groups.get("everyone").size());
+    }
+}
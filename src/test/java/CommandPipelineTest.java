@@ -0,0 +1,168 @@
+import CustomExceptions.RoomShareException;
+import Enums.ExceptionType;
+import Enums.ListType;
+import Enums.Priority;
+import Enums.RenderType;
+import Enums.TaskType;
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.Command;
+import Operations.CommandMetrics;
+import Operations.CommandPipeline;
+import Operations.CommandRegistry;
+import Operations.ListRoutine;
+import Operations.OverdueList;
+import Operations.OverdueSweeper;
+import Operations.Storage;
+import Operations.TaskList;
+import Operations.TempDeleteList;
+import Operations.Ui;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandPipelineTest {
+    private static final String TASK_FILE = "pipelineTasks.txt";
+    private static final String OVERDUE_FILE = "pipelineOverdue.txt";
+    private CommandRegistry registry = new CommandRegistry();
+    private Storage storage = new Storage();
+    private TaskList taskList = new TaskList(new ArrayList<>());
+    private OverdueList overdueList = new OverdueList(new ArrayList<>());
+    private TempDeleteList deletedList = new TempDeleteList(new ArrayList<>());
+    private CommandPipeline pipeline = new CommandPipeline(registry, new Ui(), storage,
+            new ListRoutine(taskList, overdueList), deletedList, TASK_FILE, OVERDUE_FILE);
+
+    @AfterEach
+    void tearDown() {
+        new File(TASK_FILE).delete();
+        new File(OVERDUE_FILE).delete();
+    }
+
+    @Test
+    void savesOnlyTouchedListsEvenWhenCommandFails() throws Exception {
+        registry.register(TaskType.add, Command.of(RenderType.none, EnumSet.of(ListType.tasks), input -> {
+            taskList.add(new Assignment(input, new Date()));
+            throw new RoomShareException(ExceptionType.wrongFormat);
+        }));
+        assertFalse(pipeline.run(TaskType.add, "pay rent"));
+        ArrayList<Task> saved = storage.loadFile(TASK_FILE);
+        assertEquals(1, saved.size());
+        assertEquals("pay rent", saved.get(0).getDescription());
+        assertFalse(new File(OVERDUE_FILE).exists());
+    }
+
+    @Test
+    void readOnlyCommandSavesNothing() throws Exception {
+        registry.register(TaskType.find, Command.of(RenderType.none, EnumSet.noneOf(ListType.class), input -> { }));
+        CommandMetrics metrics = new CommandMetrics();
+        pipeline.setMetrics(metrics);
+        assertFalse(pipeline.run(TaskType.find, "rent"));
+        assertFalse(new File(TASK_FILE).exists());
+        assertEquals(1, metrics.getCount(TaskType.find));
+        assertEquals(0, metrics.getSaves());
+    }
+
+    @Test
+    void deferredSavingWaitsForFlush() throws Exception {
+        registry.register(TaskType.add, Command.of(RenderType.listAfter, EnumSet.of(ListType.tasks),
+            input -> taskList.add(new Assignment(input, new Date()))));
+        CommandMetrics metrics = new CommandMetrics();
+        pipeline.setMetrics(metrics);
+        pipeline.setRendering(false);
+        pipeline.setSavingDeferred(true);
+        pipeline.run(TaskType.add, "pay rent");
+        pipeline.run(TaskType.add, "water the plants");
+        assertFalse(new File(TASK_FILE).exists());
+        pipeline.flush();
+        assertEquals(2, storage.loadFile(TASK_FILE).size());
+        assertEquals(1, metrics.getSaves());
+        pipeline.flush();
+        assertEquals(1, metrics.getSaves());
+    }
+
+    private OverdueSweeper setUpTransaction(Assignment rent, Assignment report) {
+        taskList.add(rent);
+        taskList.add(report);
+        OverdueSweeper sweeper = new OverdueSweeper(() -> { });
+        TaskList.setOverdueSweeper(sweeper);
+        sweeper.start(TaskList.getCurrentList());
+        registry.register(TaskType.priority, Command.of(RenderType.listAfter, EnumSet.of(ListType.tasks),
+            input -> TaskList.get(Integer.parseInt(input) - 1).setPriority(Priority.high)));
+        registry.register(TaskType.delete, Command.of(RenderType.listAfter, EnumSet.of(ListType.tasks),
+            input -> taskList.delete(new int[]{Integer.parseInt(input) - 1}, deletedList)));
+        registry.register(TaskType.snooze, Command.of(RenderType.listAfter, EnumSet.of(ListType.tasks), input -> {
+            throw new RoomShareException(ExceptionType.wrongTimeFormat);
+        }));
+        pipeline.setRendering(false);
+        return sweeper;
+    }
+
+    @Test
+    void failedLineIsRolledBack() throws Exception {
+        long later = System.currentTimeMillis() + 60 * 60 * 1000;
+        Assignment rent = new Assignment("pay rent", new Date(later));
+        Assignment report = new Assignment("write report", new Date(later));
+        OverdueSweeper sweeper = setUpTransaction(rent, report);
+        try {
+            pipeline.runTransaction("priority 1; delete 2; snooze 1 2 days");
+            assertEquals(2, TaskList.getCurrentList().size());
+            assertEquals(Priority.low, TaskList.get(0).getPriority());
+            assertEquals(Priority.low, TaskList.get(1).getPriority());
+            assertTrue(TaskList.getCurrentList().contains(rent));
+            assertTrue(TaskList.getCurrentList().contains(report));
+            assertEquals(2, sweeper.size());
+            assertFalse(new File(TASK_FILE).exists());
+        } finally {
+            TaskList.setOverdueSweeper(null);
+            sweeper.stop();
+        }
+    }
+
+    @Test
+    void successfulLineIsSavedOnce() throws Exception {
+        long later = System.currentTimeMillis() + 60 * 60 * 1000;
+        Assignment rent = new Assignment("pay rent", new Date(later));
+        Assignment report = new Assignment("write report", new Date(later));
+        OverdueSweeper sweeper = setUpTransaction(rent, report);
+        CommandMetrics metrics = new CommandMetrics();
+        pipeline.setMetrics(metrics);
+        try {
+            pipeline.runTransaction("priority 1; delete 2");
+            assertEquals(1, TaskList.getCurrentList().size());
+            assertEquals(Priority.high, TaskList.get(0).getPriority());
+            assertEquals(1, sweeper.size());
+            assertEquals(1, storage.loadFile(TASK_FILE).size());
+            assertEquals(1, metrics.getSaves());
+        } finally {
+            TaskList.setOverdueSweeper(null);
+            sweeper.stop();
+        }
+    }
+
+    @Test
+    void onlyLinesOfCommandsAreTransactions() {
+        registry.register(TaskType.add, Command.of(RenderType.none, EnumSet.of(ListType.tasks), input -> { }));
+        registry.register(TaskType.list, Command.of(RenderType.listAfter, EnumSet.noneOf(ListType.class),
+            input -> { }));
+        assertTrue(pipeline.isTransaction("add meeting -buy milk; list"));
+        assertFalse(pipeline.isTransaction("add meeting -buy milk; eggs"));
+        assertFalse(pipeline.isTransaction("add meeting -buy milk; li"));
+        assertTrue(pipeline.isTransaction("ad meeting -buy milk; list"));
+        assertFalse(pipeline.isTransaction("add meeting -buy milk"));
+    }
+
+    @Test
+    void unknownCommandWordsUseFallback() {
+        assertSame(registry.get(TaskType.others), registry.get(TaskType.completed));
+        assertTrue(registry.get(TaskType.others).getTouchedLists().isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+import CustomExceptions.RoomShareException;
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.ListRoutine;
+import Operations.OverdueList;
+import Operations.TaskList;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ListRoutineTest {
+    private TaskList taskList;
+
+    private ListRoutine createRoutine(int taskCount) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        long later = System.currentTimeMillis() + 24 * 60 * 60 * 1000L;
+        for (int i = 1; i <= taskCount; i++) {
+            tasks.add(new Assignment("task " + i, new Date(later + i * 60000L)));
+        }
+        taskList = new TaskList(tasks);
+        return new ListRoutine(taskList, new OverdueList(new ArrayList<>()));
+    }
+
+    private String list(ListRoutine routine) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        try {
+            routine.list();
+        } finally {
+            System.setOut(original);
+        }
+        return output.toString();
+    }
+
+    @Test
+    void pageOnlyShowsItsTasks() throws RoomShareException {
+        ListRoutine routine = createRoutine(45);
+        routine.showPage(2);
+        String page = list(routine);
+        assertTrue(page.contains("Listing page 2 of 3 (tasks 21 to 40 of 45)"));
+        assertTrue(page.contains("21. [A] task 21 "));
+        assertTrue(page.contains("40. [A] task 40 "));
+        assertFalse(page.contains("20. [A] task 20 "));
+        assertFalse(page.contains("41. [A] task 41 "));
+    }
+
+    @Test
+    void navigation() throws RoomShareException {
+        ListRoutine routine = createRoutine(45);
+        routine.showPageOf(44);
+        assertTrue(list(routine).contains("Listing page 3 of 3"));
+        assertThrows(RoomShareException.class, routine::nextPage);
+        routine.previousPage();
+        routine.setPageSize(10);
+        assertTrue(list(routine).contains("Listing page 3 of 5 (tasks 21 to 30 of 45)"));
+        routine.showAll();
+        assertTrue(list(routine).contains("Listing tasks in the common task list..."));
+        assertThrows(RoomShareException.class, routine::previousPage);
+        assertThrows(RoomShareException.class, () -> routine.setPageSize(0));
+    }
+
+    @Test
+    void completedHeadingOnlyWhereCompletedTasksStart() throws RoomShareException {
+        ListRoutine routine = createRoutine(45);
+        taskList.done(new int[]{0, 24});
+        routine.showPage(1);
+        assertFalse(list(routine).contains("Completed Tasks:"));
+        routine.nextPage();
+        String page = list(routine);
+        assertTrue(page.contains("Completed Tasks:"));
+        assertTrue(page.contains("40. [A] task 20 "));
+        assertTrue(page.contains("55.6 %"));
+        routine.nextPage();
+        assertFalse(list(routine).contains("Completed Tasks:"));
+    }
+}
@@ -0,0 +1,55 @@
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.NearDuplicateDetector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NearDuplicateDetectorTest {
+    private Assignment milk = new Assignment("buy milk", new Date());
+    private Assignment milkAgain = new Assignment("Buy the milk!", new Date());
+    private Assignment laundry = new Assignment("do the laundry", new Date());
+
+    @Test
+    void findSimilar() {
+        NearDuplicateDetector detector = new NearDuplicateDetector();
+        detector.add(milk);
+        detector.add(laundry);
+        ArrayList<Task> similar = detector.findSimilar(milkAgain);
+        assertEquals(1, similar.size());
+        assertTrue(similar.get(0) == milk);
+    }
+
+    @Test
+    void remove() {
+        NearDuplicateDetector detector = new NearDuplicateDetector();
+        detector.add(milk);
+        detector.remove(milk);
+        assertTrue(detector.findSimilar(milkAgain).isEmpty());
+    }
+
+    @Test
+    void findSimilarAfterDescriptionChanged() {
+        NearDuplicateDetector detector = new NearDuplicateDetector();
+        detector.add(milk);
+        milk.setDescription("do the laundry");
+        assertTrue(detector.findSimilar(milkAgain).isEmpty());
+        assertEquals(1, detector.findSimilar(laundry).size());
+    }
+
+    @Test
+    void findAllSimilar() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(milk);
+        tasks.add(laundry);
+        tasks.add(milkAgain);
+        ArrayList<int[]> pairs = NearDuplicateDetector.findAllSimilar(tasks);
+        assertEquals(1, pairs.size());
+        assertArrayEquals(new int[]{0, 2}, pairs.get(0));
+    }
+}
@@ -0,0 +1,70 @@
+import Enums.RecurrenceScheduleType;
+import Model_Classes.Assignment;
+import Operations.OccurrenceIterator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OccurrenceIteratorTest {
+    private Instant at(int year, int month, int day, int hour) {
+        return new Date(year - 1900, month - 1, day, hour, 0).toInstant();
+    }
+
+    private Assignment recurring(Instant date, RecurrenceScheduleType type) {
+        Assignment assignment = new Assignment("water the plants", Date.from(date));
+        assignment.setRecurrenceSchedule(type);
+        return assignment;
+    }
+
+    @Test
+    void expandsWindowFarFromTaskDate() {
+        Assignment plants = recurring(at(2020, 1, 1, 9), RecurrenceScheduleType.week);
+        OccurrenceIterator occurrences = new OccurrenceIterator(plants, at(2021, 1, 1, 0), at(2021, 1, 15, 0));
+        assertEquals(at(2021, 1, 6, 9).toEpochMilli(), occurrences.nextLong());
+        assertEquals(at(2021, 1, 13, 9).toEpochMilli(), occurrences.nextLong());
+        assertFalse(occurrences.hasNext());
+    }
+
+    @Test
+    void startsAtTaskDate() {
+        Assignment plants = recurring(at(2020, 1, 31, 9), RecurrenceScheduleType.month);
+        OccurrenceIterator occurrences = new OccurrenceIterator(plants, at(2019, 1, 1, 0), at(2020, 5, 1, 0));
+        assertEquals(at(2020, 1, 31, 9).toEpochMilli(), occurrences.nextLong());
+        assertEquals(at(2020, 2, 29, 9).toEpochMilli(), occurrences.nextLong());
+        assertEquals(at(2020, 3, 31, 9).toEpochMilli(), occurrences.nextLong());
+        assertEquals(at(2020, 4, 30, 9).toEpochMilli(), occurrences.nextLong());
+        assertFalse(occurrences.hasNext());
+    }
+
+    @Test
+    void skipsClampedOccurrenceBeforeWindow() {
+        Assignment plants = recurring(at(2020, 1, 31, 9), RecurrenceScheduleType.month);
+        OccurrenceIterator occurrences = new OccurrenceIterator(plants, at(2020, 4, 30, 10), at(2020, 7, 1, 0));
+        assertEquals(at(2020, 5, 31, 9).toEpochMilli(), occurrences.nextLong());
+        assertEquals(at(2020, 6, 30, 9).toEpochMilli(), occurrences.nextLong());
+        assertFalse(occurrences.hasNext());
+    }
+
+    @Test
+    void includesOccurrenceAtStartOfWindow() {
+        Assignment plants = recurring(at(2020, 1, 1, 9), RecurrenceScheduleType.day);
+        OccurrenceIterator occurrences = new OccurrenceIterator(plants, at(2020, 1, 3, 9), at(2020, 1, 4, 9));
+        assertEquals(at(2020, 1, 3, 9).toEpochMilli(), occurrences.nextLong());
+        assertFalse(occurrences.hasNext());
+    }
+
+    @Test
+    void taskWithoutRecurrenceOccursOnce() {
+        Assignment rent = new Assignment("pay rent", Date.from(at(2020, 1, 1, 9)));
+        OccurrenceIterator occurrences = new OccurrenceIterator(rent, at(2019, 1, 1, 0), at(2021, 1, 1, 0));
+        assertTrue(occurrences.hasNext());
+        assertEquals(at(2020, 1, 1, 9).toEpochMilli(), occurrences.nextLong());
+        assertFalse(occurrences.hasNext());
+        assertFalse(new OccurrenceIterator(rent, at(2020, 2, 1, 0), at(2021, 1, 1, 0)).hasNext());
+    }
+}
@@ -0,0 +1,113 @@
+import Enums.RecurrenceScheduleType;
+import Model_Classes.Assignment;
+import Model_Classes.Leave;
+import Model_Classes.Task;
+import Operations.OverdueList;
+import Operations.OverdueSweeper;
+import Operations.TaskList;
+import Operations.TempDeleteList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OverdueSweeperTest {
+    private static final long HOUR = 60 * 60 * 1000;
+    private OverdueSweeper sweeper;
+
+    @AfterEach
+    void tearDown() {
+        TaskList.setOverdueSweeper(null);
+        if (sweeper != null) {
+            sweeper.stop();
+        }
+    }
+
+    private TaskList setUp(ArrayList<Task> tasks, Runnable onSweep) {
+        TaskList taskList = new TaskList(tasks);
+        new OverdueList(new ArrayList<>());
+        sweeper = new OverdueSweeper(onSweep);
+        TaskList.setOverdueSweeper(sweeper);
+        return taskList;
+    }
+
+    @Test
+    void startMovesOnlyExpiredUndoneTasks() throws Exception {
+        long now = System.currentTimeMillis();
+        Assignment rent = new Assignment("pay rent", new Date(now - HOUR));
+        Assignment report = new Assignment("finish report", new Date(now - HOUR));
+        report.setDone(true);
+        Assignment bins = new Assignment("take out the bins", new Date(now - HOUR));
+        bins.setRecurrenceSchedule(RecurrenceScheduleType.day);
+        Leave leave = new Leave("holiday", "harry", new Date(now - HOUR), new Date(now + HOUR));
+        Assignment plants = new Assignment("water the plants", new Date(now + HOUR));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(rent);
+        tasks.add(report);
+        tasks.add(bins);
+        tasks.add(leave);
+        tasks.add(plants);
+        setUp(tasks, () -> { });
+        assertTrue(sweeper.start(tasks));
+        assertEquals(1, OverdueList.getOverdueList().size());
+        assertTrue(rent.getOverdue());
+        assertFalse(TaskList.getCurrentList().contains(rent));
+        assertEquals(4, TaskList.getCurrentList().size());
+        // the leave is kept until it ends, to be removed from the list then
+        assertEquals(2, sweeper.size());
+    }
+
+    @Test
+    void finishedLeaveIsRemoved() throws Exception {
+        long now = System.currentTimeMillis();
+        Leave holiday = new Leave("holiday", "harry", new Date(now - 2 * HOUR), new Date(now - HOUR));
+        Leave trip = new Leave("trip", "kelly", new Date(now - HOUR), new Date(now + HOUR));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(holiday);
+        tasks.add(trip);
+        setUp(tasks, () -> { });
+        assertFalse(sweeper.start(tasks));
+        assertFalse(TaskList.getCurrentList().contains(holiday));
+        assertTrue(TaskList.getCurrentList().contains(trip));
+        assertEquals(0, OverdueList.getOverdueList().size());
+        assertEquals(1, sweeper.size());
+    }
+
+    @Test
+    void deletedTaskIsNotMoved() throws Exception {
+        long now = System.currentTimeMillis();
+        Assignment rent = new Assignment("pay rent", new Date(now + HOUR));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(rent);
+        TaskList taskList = setUp(tasks, () -> { });
+        assertFalse(sweeper.start(tasks));
+        taskList.delete(new int[]{0}, new TempDeleteList(new ArrayList<>()));
+        assertEquals(0, sweeper.size());
+        rent.setDate(new Date(now - HOUR));
+        assertFalse(sweeper.checkDue());
+        assertEquals(0, OverdueList.getOverdueList().size());
+    }
+
+    @Test
+    void timerMovesTaskWhenDeadlinePasses() throws Exception {
+        CountDownLatch swept = new CountDownLatch(1);
+        Assignment rent = new Assignment("pay rent", new Date(System.currentTimeMillis() + 200));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(rent);
+        setUp(tasks, swept::countDown);
+        assertFalse(sweeper.start(tasks));
+        assertTrue(swept.await(5, TimeUnit.SECONDS));
+        synchronized (TaskList.getLock()) {
+            assertTrue(rent.getOverdue());
+            assertEquals(0, TaskList.getCurrentList().size());
+            assertEquals(1, OverdueList.getOverdueList().size());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+import CustomExceptions.RoomShareException;
+import Operations.Parser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParserTest {
+    private Parser parser = new Parser();
+
+    @Test
+    void formatDateDDMMYY() throws RoomShareException, ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+        assertEquals(format.parse("22/12/2019 18:00"), parser.formatDateDDMMYY("22/12/2019 18:00"));
+        assertEquals(format.parse("29/02/2020 00:59"), parser.formatDateDDMMYY("29/02/2020 00:59"));
+        assertEquals(format.parse("02/03/2020 09:05"), parser.formatDateDDMMYY("2/3/2020 9:05"));
+    }
+
+    @Test
+    void formatDateDDMMYYRejectsInvalidDates() {
+        String[] invalidDates = {"31/04/2020 10:00", "29/02/2019 10:00", "00/12/2019 10:00", "22/13/2019 10:00",
+            "22/12/2019 24:00", "22/12/2019 18:60", "2a/12/2019 18:00", "22-12-2019 18:00", "22/12/2019 18:00pm",
+            "22/12/19 18:00", ""};
+        for (String date : invalidDates) {
+            assertThrows(RoomShareException.class, () -> parser.formatDateDDMMYY(date), date);
+        }
+    }
+
+    @Test
+    void getOriginalCase() {
+        Parser lineParser = new Parser(new ByteArrayInputStream("ImportFile ~/Chores/Import.txt\n".getBytes()));
+        assertEquals("importfile", lineParser.getCommand());
+        String input = lineParser.getCommandLine();
+        assertEquals("~/chores/import.txt", input);
+        assertEquals("~/Chores/Import.txt", lineParser.getOriginalCase(input));
+        assertEquals("not typed", lineParser.getOriginalCase("not typed"));
+    }
+}
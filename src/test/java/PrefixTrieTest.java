@@ -0,0 +1,91 @@
+import Enums.TaskType;
+import Operations.CommandRegistry;
+import Operations.PrefixTrie;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PrefixTrieTest {
+    @Test
+    void resolve() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("find");
+        trie.add("findslot");
+        trie.add("delete");
+        assertEquals("delete", trie.resolve("del"));
+        assertEquals("find", trie.resolve("find"));
+        assertEquals("findslot", trie.resolve("finds"));
+        assertNull(trie.resolve("fin"));
+        assertNull(trie.resolve("update"));
+    }
+
+    @Test
+    void removeKeepsWordsAddedMoreThanOnce() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("rent");
+        trie.add("rent");
+        trie.add("report");
+        trie.remove("rent");
+        assertEquals(new ArrayList<>(Arrays.asList("rent", "report")), trie.complete("re"));
+        trie.remove("rent");
+        assertFalse(trie.contains("rent"));
+        assertEquals("report", trie.resolve("re"));
+    }
+
+    @Test
+    void completeOrdersByCount() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("plants");
+        trie.add("plan");
+        trie.add("plants");
+        assertEquals(new ArrayList<>(Arrays.asList("plants", "plan")), trie.complete("pla"));
+        trie.add("plan");
+        trie.add("plan");
+        assertEquals(new ArrayList<>(Arrays.asList("plan", "plants")), trie.complete("pla"));
+        assertEquals(new ArrayList<>(), trie.complete("x"));
+    }
+
+    @Test
+    void completionsAreRefilledAfterRemove() {
+        PrefixTrie trie = new PrefixTrie();
+        for (char c = 'a'; c <= 'l'; c++) {
+            trie.add("task" + c);
+        }
+        trie.add("taskl");
+        assertEquals("taskl", trie.complete("ta").get(0));
+        assertEquals(10, trie.complete("ta").size());
+        assertFalse(trie.complete("ta").contains("taskk"));
+        trie.remove("taska");
+        trie.remove("taskl");
+        trie.remove("taskl");
+        ArrayList<String> expected = new ArrayList<>();
+        for (char c = 'b'; c <= 'k'; c++) {
+            expected.add("task" + c);
+        }
+        assertEquals(expected, trie.complete("task"));
+        assertEquals(new ArrayList<>(), trie.complete("taskl"));
+    }
+
+    @Test
+    void commandWordsResolveFromUniquePrefixes() {
+        assertEquals(TaskType.snooze, CommandRegistry.getType("sn"));
+        assertEquals(TaskType.find, CommandRegistry.getType("find"));
+        assertEquals(TaskType.others, CommandRegistry.getType("re"));
+        assertEquals(TaskType.others, CommandRegistry.getType("hello"));
+    }
+
+    @Test
+    void exitAndRemovingCommandsNeedTheFullWord() {
+        assertEquals(TaskType.others, CommandRegistry.getType("by"));
+        assertEquals(TaskType.others, CommandRegistry.getType("del"));
+        assertEquals(TaskType.others, CommandRegistry.getType("rem"));
+        assertEquals(TaskType.bye, CommandRegistry.getType("bye"));
+        assertEquals(TaskType.delete, CommandRegistry.getType("delete"));
+        assertEquals(TaskType.removeoverdue, CommandRegistry.getType("removeoverdue"));
+    }
+}
@@ -0,0 +1,55 @@
+import Enums.Priority;
+import Enums.SortType;
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.PriorityAging;
+import Operations.TaskList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PriorityAgingTest {
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final long DAY = 24 * HOUR;
+
+    @AfterEach
+    void tearDown() {
+        TaskList.setPriorityAging(false);
+    }
+
+    @Test
+    void priorityRisesAsDeadlineComesNear() throws Exception {
+        PriorityAging aging = new PriorityAging();
+        long now = System.currentTimeMillis();
+        Assignment report = new Assignment("finish report", new Date(now + 5 * DAY));
+        assertEquals(Priority.low, aging.getPriority(report, now));
+        assertEquals(Priority.medium, aging.getPriority(report, now + 3 * DAY));
+        assertEquals(Priority.high, aging.getPriority(report, now + 4 * DAY + HOUR));
+        assertEquals(Priority.low, report.getPriority());
+        report.setPriority(Priority.medium);
+        assertEquals(Priority.medium, aging.getPriority(report, now + 3 * DAY));
+        report.setDone(true);
+        assertEquals(Priority.medium, aging.getPriority(report, now + 5 * DAY));
+    }
+
+    @Test
+    void sortUsesRaisedPriorityOnlyWhenTurnedOn() {
+        long now = System.currentTimeMillis();
+        Assignment later = new Assignment("plan trip", new Date(now + 30 * DAY));
+        later.setPriority(Priority.medium);
+        Assignment soon = new Assignment("pay rent", new Date(now + HOUR));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(soon);
+        tasks.add(later);
+        new TaskList(tasks);
+        TaskList.changeSort(SortType.priority);
+        assertEquals(later, TaskList.getCurrentList().get(0));
+        TaskList.setPriorityAging(true);
+        assertEquals(soon, TaskList.getCurrentList().get(0));
+        assertEquals(Priority.low, soon.getPriority());
+    }
+}
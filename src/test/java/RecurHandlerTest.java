@@ -1,2 +1,73 @@
+import Enums.RecurrenceScheduleType;
+import Model_Classes.Assignment;
+import Model_Classes.RecurrenceRule;
+import Model_Classes.Task;
+import Operations.OverdueList;
+import Operations.RecurHandler;
+import Operations.TaskList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class RecurHandlerTest {
+    private RecurHandler recurHandler;
+
+    @BeforeEach
+    void setUp() {
+        new OverdueList(new ArrayList<>());
+        recurHandler = new RecurHandler(new TaskList(new ArrayList<>()));
+    }
+
+    private Assignment recurring(Date date, RecurrenceScheduleType type) {
+        Assignment assignment = new Assignment("water the plants", date);
+        assignment.setRecurrenceSchedule(type);
+        return assignment;
+    }
+
+    @Test
+    void rollOverCatchesUpInOneStep() throws Exception {
+        Assignment plants = recurring(new Date(120, 0, 1, 9, 0), RecurrenceScheduleType.day);
+        assertEquals(21, recurHandler.rollOver(plants, new Date(120, 0, 21, 10, 0).toInstant()));
+        assertEquals(new Date(120, 0, 22, 9, 0), plants.getDate());
+        assertFalse(plants.getDone());
+    }
+
+    @Test
+    void rollOverRecordsMissedOccurrencesOnce() throws Exception {
+        Assignment plants = recurring(new Date(120, 0, 1, 9, 0), RecurrenceScheduleType.week);
+        plants.setDone(true);
+        assertEquals(2, recurHandler.rollOver(plants, new Date(120, 0, 15, 9, 0).toInstant()));
+        assertEquals(new Date(120, 0, 22, 9, 0), plants.getDate());
+        ArrayList<Task> overdue = OverdueList.getOverdueList();
+        assertEquals(1, overdue.size());
+        assertEquals("water the plants (missed 2 times)", overdue.get(0).getDescription());
+        assertEquals(new Date(120, 0, 8, 9, 0), overdue.get(0).getDate());
+        assertTrue(overdue.get(0).getOverdue());
+        assertFalse(overdue.get(0).hasRecurring());
+    }
+
+    @Test
+    void rollOverMonthFromLongerMonth() throws Exception {
+        Assignment rent = recurring(new Date(120, 0, 31, 9, 0), RecurrenceScheduleType.month);
+        recurHandler.setRecordingMissed(false);
+        assertEquals(0, recurHandler.rollOver(rent, new Date(120, 1, 29, 9, 0).toInstant()));
+        assertEquals(new Date(120, 2, 31, 9, 0), rent.getDate());
+        assertTrue(OverdueList.getOverdueList().isEmpty());
+    }
+
+    @Test
+    void rollOverPastLastOccurrenceStopsRecurring() throws Exception {
+        Assignment plants = new Assignment("water the plants", new Date(120, 0, 1, 9, 0));
+        plants.setRecurrenceRule(RecurrenceRule.parse("day for 2 times"));
+        assertEquals(2, recurHandler.rollOver(plants, new Date(120, 0, 5, 9, 0).toInstant()));
+        assertEquals(new Date(120, 0, 1, 9, 0), OverdueList.getOverdueList().get(0).getDate());
+        assertFalse(plants.hasRecurring());
+        assertTrue(plants.getDone());
+    }
 }
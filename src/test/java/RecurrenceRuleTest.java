@@ -0,0 +1,65 @@
+import CustomExceptions.RoomShareException;
+import Enums.RecurrenceScheduleType;
+import Model_Classes.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RecurrenceRuleTest {
+    private ZonedDateTime at(int year, int month, int day, int hour) {
+        return ZonedDateTime.of(year, month, day, hour, 0, 0, 0, ZoneId.of("Asia/Singapore"));
+    }
+
+    @Test
+    void parseAndToString() throws RoomShareException {
+        assertEquals("week", RecurrenceRule.parse("week").toString());
+        assertEquals("2 weeks on tue,thu until 30/06/2020",
+                RecurrenceRule.parse("every 2 weeks on tue,thu until 30/06/2020").toString());
+        RecurrenceRule rule = RecurrenceRule.parse("month in jan,jul for 4 times");
+        assertEquals(rule.toString(), RecurrenceRule.parse(rule.toString()).toString());
+        assertEquals(RecurrenceScheduleType.month, rule.getFrequency());
+        assertEquals(4, rule.getCount());
+        assertNull(RecurrenceRule.parse("none"));
+        assertThrows(RoomShareException.class, () -> RecurrenceRule.parse("every fortnight"));
+        assertThrows(RoomShareException.class, () -> RecurrenceRule.parse("week on someday"));
+    }
+
+    @Test
+    void everyTwoWeeksOnWeekdays() throws RoomShareException {
+        RecurrenceRule rule = RecurrenceRule.parse("every 2 weeks on tue,thu");
+        ZonedDateTime anchor = at(2020, 1, 7, 9);
+        assertEquals(at(2020, 1, 9, 9), rule.next(anchor, anchor));
+        assertEquals(at(2020, 1, 21, 9), rule.next(anchor, at(2020, 1, 9, 9)));
+        assertEquals(at(2021, 1, 5, 9), rule.next(anchor, at(2020, 12, 31, 0)));
+        assertEquals(3, rule.countBefore(anchor, at(2020, 1, 22, 0)));
+        assertEquals(0, rule.countBefore(anchor, anchor));
+    }
+
+    @Test
+    void stopsAtUntilAndCount() throws RoomShareException {
+        RecurrenceRule until = RecurrenceRule.parse("day until 03/01/2020");
+        ZonedDateTime anchor = at(2020, 1, 1, 9);
+        assertEquals(at(2020, 1, 3, 9), until.next(anchor, at(2020, 1, 2, 9)));
+        assertNull(until.next(anchor, at(2020, 1, 3, 9)));
+        assertEquals(3, until.countBefore(anchor, at(2021, 1, 1, 0)));
+
+        RecurrenceRule count = RecurrenceRule.parse("week for 3 times");
+        assertEquals(at(2020, 1, 15, 9), count.next(anchor, at(2020, 1, 8, 9)));
+        assertNull(count.next(anchor, at(2020, 1, 15, 9)));
+        assertEquals(3, count.countBefore(anchor, at(2021, 1, 1, 0)));
+    }
+
+    @Test
+    void monthlyInChosenMonths() throws RoomShareException {
+        RecurrenceRule rule = RecurrenceRule.parse("month in jan,jul");
+        ZonedDateTime anchor = at(2020, 1, 31, 9);
+        assertEquals(at(2020, 7, 31, 9), rule.next(anchor, anchor));
+        assertEquals(at(2021, 1, 31, 9), rule.next(anchor, at(2020, 7, 31, 9)));
+        assertEquals(3, rule.countBefore(anchor, at(2021, 2, 1, 0)));
+    }
+}
@@ -0,0 +1,115 @@
+import Enums.RecurrenceScheduleType;
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.OverdueList;
+import Operations.RecurHandler;
+import Operations.RecurrenceScheduler;
+import Operations.TaskList;
+import Operations.TempDeleteList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecurrenceSchedulerTest {
+    private static final long HOUR = 60 * 60 * 1000;
+    private static final long DAY = 24 * HOUR;
+    private RecurrenceScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        TaskList.setRecurrenceScheduler(null);
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    private Assignment recurring(String description, long date, RecurrenceScheduleType type) {
+        Assignment assignment = new Assignment(description, new Date(date));
+        assignment.setRecurrenceSchedule(type);
+        return assignment;
+    }
+
+    private TaskList setUp(ArrayList<Task> tasks, Runnable onRollOver) {
+        TaskList taskList = new TaskList(tasks);
+        new OverdueList(new ArrayList<>());
+        scheduler = new RecurrenceScheduler(new RecurHandler(taskList), onRollOver);
+        TaskList.setRecurrenceScheduler(scheduler);
+        return taskList;
+    }
+
+    @Test
+    void startRollsOverDueTasks() throws Exception {
+        long now = System.currentTimeMillis();
+        Assignment bins = recurring("take out the bins", now - HOUR, RecurrenceScheduleType.day);
+        bins.setDone(true);
+        Assignment rent = new Assignment("pay rent", new Date(now - HOUR));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(bins);
+        tasks.add(rent);
+        setUp(tasks, () -> { });
+        assertTrue(scheduler.start(tasks));
+        assertTrue(TaskList.getCurrentList().contains(bins));
+        assertEquals(now - HOUR + DAY, bins.getDate().getTime());
+        assertFalse(bins.getDone());
+        assertEquals(now - HOUR, rent.getDate().getTime());
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    void deletedTaskIsNotRolledOver() throws Exception {
+        long now = System.currentTimeMillis();
+        Assignment bins = recurring("take out the bins", now + HOUR, RecurrenceScheduleType.week);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(bins);
+        TaskList taskList = setUp(tasks, () -> { });
+        assertFalse(scheduler.start(tasks));
+        taskList.delete(new int[]{0}, new TempDeleteList(new ArrayList<>()));
+        assertEquals(0, scheduler.size());
+        bins.setDate(new Date(now - HOUR));
+        assertFalse(scheduler.checkDue());
+        assertEquals(now - HOUR, bins.getDate().getTime());
+    }
+
+    @Test
+    void changedDateIsTrackedAgain() {
+        long now = System.currentTimeMillis();
+        Assignment bins = recurring("take out the bins", now + DAY, RecurrenceScheduleType.day);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(bins);
+        setUp(tasks, () -> { });
+        // tracked without start, so no timer thread is running and only checkDue rolls tasks over
+        scheduler.track(bins);
+        assertFalse(scheduler.checkDue());
+        bins.setDate(new Date(now - HOUR));
+        scheduler.track(bins);
+        assertTrue(scheduler.checkDue());
+        assertEquals(now - HOUR + DAY, bins.getDate().getTime());
+        assertEquals(1, scheduler.size());
+        assertEquals(1, scheduler.takeMissedRecorded());
+        assertEquals(1, OverdueList.getOverdueList().size());
+    }
+
+    @Test
+    void timerRollsOverWhileRunning() throws Exception {
+        long now = System.currentTimeMillis();
+        Assignment bins = recurring("take out the bins", now + 200, RecurrenceScheduleType.day);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(bins);
+        int[] calls = new int[1];
+        setUp(tasks, () -> calls[0]++);
+        assertFalse(scheduler.start(tasks));
+        for (int i = 0; i < 50 && calls[0] == 0; i++) {
+            Thread.sleep(50);
+        }
+        synchronized (TaskList.getLock()) {
+            assertEquals(1, calls[0]);
+            assertEquals(now + 200 + DAY, bins.getDate().getTime());
+        }
+    }
+}
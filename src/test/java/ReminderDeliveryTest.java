@@ -0,0 +1,51 @@
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.ReminderDelivery;
+import Operations.Ui;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ReminderDeliveryTest {
+    private BlockingQueue<String> shown = new LinkedBlockingQueue<>();
+
+    private Ui ui = new Ui() {
+        @Override
+        public void showReminders(ArrayList<Task> tasks, int dropped) {
+            StringBuilder batch = new StringBuilder();
+            for (Task task : tasks) {
+                batch.append(task.getDescription()).append(",");
+            }
+            shown.add(batch.toString() + dropped);
+        }
+    };
+
+    @Test
+    void remindersInWindowAreShownTogether() throws Exception {
+        ReminderDelivery delivery = new ReminderDelivery(ui, 16, 200);
+        delivery.start();
+        delivery.offer(new Assignment("finish report", new Date()));
+        delivery.offer(new Assignment("water the plants", new Date()));
+        assertEquals("finish report,water the plants,0", shown.poll(5, TimeUnit.SECONDS));
+        assertNull(shown.poll(300, TimeUnit.MILLISECONDS));
+        delivery.stop();
+    }
+
+    @Test
+    void remindersOverCapacityAreCounted() throws Exception {
+        ReminderDelivery delivery = new ReminderDelivery(ui, 2, 100);
+        delivery.offer(new Assignment("one", new Date()));
+        delivery.offer(new Assignment("two", new Date()));
+        delivery.offer(new Assignment("three", new Date()));
+        delivery.start();
+        assertEquals("one,two,1", shown.poll(5, TimeUnit.SECONDS));
+        delivery.stop();
+    }
+}
@@ -0,0 +1,109 @@
+import Model_Classes.Assignment;
+import Model_Classes.Task;
+import Operations.ReminderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReminderServiceTest {
+    private ReminderService reminderService;
+
+    @BeforeEach
+    void setUp() {
+        reminderService = new ReminderService(task -> { });
+    }
+
+    @AfterEach
+    void tearDown() {
+        reminderService.stop();
+    }
+
+    @Test
+    void runsRemindersInTimeOrder() throws Exception {
+        CountDownLatch latch = new CountDownLatch(2);
+        StringBuffer order = new StringBuffer();
+        long now = System.currentTimeMillis();
+        reminderService.schedule(new Assignment("later", new Date()), now + 150, () -> {
+            order.append("later");
+            latch.countDown();
+        });
+        reminderService.schedule(new Assignment("sooner", new Date()), now + 50, () -> {
+            order.append("sooner ");
+            latch.countDown();
+        });
+        assertEquals(2, reminderService.size());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("sooner later", order.toString());
+        assertEquals(0, reminderService.size());
+    }
+
+    @Test
+    void cancelledReminderDoesNotRun() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        Assignment report = new Assignment("finish report", new Date());
+        long now = System.currentTimeMillis();
+        reminderService.schedule(report, now + 50, runs::incrementAndGet);
+        reminderService.schedule(new Assignment("after", new Date()), now + 100, latch::countDown);
+        assertTrue(reminderService.cancel(report));
+        assertFalse(reminderService.cancel(report));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void newReminderReplacesOldOne() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        Assignment report = new Assignment("finish report", new Date());
+        long now = System.currentTimeMillis();
+        ReminderService.Reminder old = reminderService.schedule(report, now + 50, runs::incrementAndGet);
+        reminderService.schedule(report, now + 100, latch::countDown);
+        assertTrue(old.isCancelled());
+        assertEquals(1, reminderService.size());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void startSplitsMissedFromPendingReminders() {
+        long now = System.currentTimeMillis();
+        Assignment missed = new Assignment("finish report", new Date());
+        missed.setReminder(new Date(now - 60000));
+        Assignment pending = new Assignment("water the plants", new Date());
+        pending.setReminder(new Date(now + 3600000));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(pending);
+        tasks.add(missed);
+        tasks.add(new Assignment("no reminder", new Date()));
+        ArrayList<Task> digest = reminderService.start(tasks);
+        assertEquals(1, digest.size());
+        assertEquals(missed, digest.get(0));
+        assertNull(missed.getReminder());
+        assertEquals(1, reminderService.size());
+        assertEquals(now + 3600000, reminderService.getReminder(pending).getTime());
+    }
+
+    @Test
+    void dueReminderIsRemovedFromTask() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        ReminderService service = new ReminderService(task -> latch.countDown());
+        Assignment report = new Assignment("finish report", new Date());
+        report.setReminder(new Date(System.currentTimeMillis() + 50));
+        service.track(report);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNull(report.getReminder());
+        service.stop();
+    }
+}
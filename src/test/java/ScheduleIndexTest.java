@@ -0,0 +1,97 @@
+import CustomExceptions.RoomShareException;
+import Enums.TimeUnit;
+import Model_Classes.Leave;
+import Model_Classes.Meeting;
+import Model_Classes.Task;
+import Operations.AvailabilityIndex;
+import Operations.Parser;
+import Operations.ScheduleIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScheduleIndexTest {
+    private static final Parser parser = new Parser();
+    private static final long HOUR = 60 * 60 * 1000;
+    private ArrayList<Task> tasks = new ArrayList<>();
+    private Date nine;
+
+    {
+        try {
+            nine = parser.formatDateDDMMYY("12/12/2019 09:00");
+            Meeting meeting1 = new Meeting("meeting1", parser.formatDateDDMMYY("12/12/2019 09:00"), 1, TimeUnit.hours);
+            Meeting meeting2 = new Meeting("meeting2", parser.formatDateDDMMYY("12/12/2019 10:30"), 1, TimeUnit.hours);
+            meeting2.setAssignee("harry");
+            Leave leave = new Leave("leave", "kelly", parser.formatDateDDMMYY("12/12/2019 12:00"),
+                    parser.formatDateDDMMYY("12/12/2019 15:00"));
+            tasks.add(meeting1);
+            tasks.add(meeting2);
+            tasks.add(leave);
+        } catch (RoomShareException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    void findSlots() throws RoomShareException {
+        ScheduleIndex index = ScheduleIndex.build(tasks, "everyone");
+        ArrayList<Date[]> slots = index.findSlots(nine, HOUR, 2);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 15:00"), slots.get(0)[0]);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 16:00"), slots.get(1)[0]);
+    }
+
+    @Test
+    void findSlotsOfAssignee() throws RoomShareException {
+        ScheduleIndex index = ScheduleIndex.build(tasks, "kelly");
+        ArrayList<Date[]> slots = index.findSlots(nine, HOUR, 2);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 10:00"), slots.get(0)[0]);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 11:00"), slots.get(1)[0]);
+    }
+
+    @Test
+    void findSlotsFromAvailabilityIndex() throws RoomShareException {
+        AvailabilityIndex index = AvailabilityIndex.build(tasks, null);
+        ArrayList<Date[]> slots = index.findSlots("everyone", nine, HOUR, 3);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 15:00"), slots.get(0)[0]);
+        slots = index.findSlots("harry", nine, HOUR, 3);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 11:30"), slots.get(0)[0]);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 12:30"), slots.get(1)[0]);
+        index.remove(tasks.get(1));
+        slots = index.findSlots("harry", nine, HOUR, 1);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 10:00"), slots.get(0)[0]);
+        slots = index.findSlots("kelly", nine, HOUR, 3);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 10:00"), slots.get(0)[0]);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 11:00"), slots.get(1)[0]);
+        assertEquals(parser.formatDateDDMMYY("12/12/2019 15:00"), slots.get(2)[0]);
+    }
+
+    @Test
+    void bookMergesOverlaps() {
+        ScheduleIndex index = new ScheduleIndex();
+        index.book(0, 10);
+        index.book(20, 30);
+        index.book(5, 25);
+        assertEquals(1, index.size());
+        assertFalse(index.isFree(29, 31));
+        assertTrue(index.isFree(30, 40));
+    }
+
+    @Test
+    void unbookSplitsMergedBlock() {
+        ScheduleIndex index = new ScheduleIndex();
+        index.book(0, 10);
+        index.book(20, 30);
+        index.book(5, 25);
+        index.unbook(5, 25);
+        assertEquals(2, index.size());
+        assertTrue(index.isFree(10, 20));
+        assertFalse(index.isFree(25, 26));
+        index.unbook(5, 25);
+        assertEquals(2, index.size());
+    }
+}
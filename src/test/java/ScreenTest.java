@@ -0,0 +1,75 @@
+import Operations.Screen;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ScreenTest {
+    private static final String ESC = "\u001b[";
+    private PrintStream original = System.out;
+    private ByteArrayOutputStream terminal = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(terminal, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(original);
+    }
+
+    private String drawFrame(Screen screen, String... lines) {
+        terminal.reset();
+        screen.begin();
+        for (String line : lines) {
+            System.out.println(line);
+        }
+        screen.end();
+        return terminal.toString();
+    }
+
+    @Test
+    void onlyChangedLinesAreRedrawn() {
+        Screen screen = new Screen(true, 24, 80);
+        assertEquals(ESC + "H" + ESC + "2J" + "header\n1. pay rent\n[==    ]\n",
+                drawFrame(screen, "header", "1. pay rent", "[==    ]"));
+        screen.countInputLine();
+        assertEquals(ESC + "2;1H" + ESC + "2K" + ESC + "0m" + "1. pay rent (done)"
+                        + ESC + "3;1H" + ESC + "2K" + ESC + "0m" + "[======]" + ESC + "4;1H" + ESC + "J",
+                drawFrame(screen, "header", "1. pay rent (done)", "[======]"));
+    }
+
+    @Test
+    void redrawnLinesKeepInheritedColor() {
+        String green = ESC + "38;5;118m";
+        String reset = ESC + "0m";
+        Screen screen = new Screen(true, 24, 80);
+        drawFrame(screen, green + "Completed Tasks:", "\t1. a", "\t2. c" + reset);
+        screen.countInputLine();
+        assertEquals(ESC + "3;1H" + ESC + "2K" + green + "\t2. b" + ESC + "4;1H" + ESC + "2K" + green + "\t3. c" + reset
+                        + ESC + "5;1H" + ESC + "J",
+                drawFrame(screen, green + "Completed Tasks:", "\t1. a", "\t2. b", "\t3. c" + reset));
+    }
+
+    @Test
+    void frameIsRedrawnAfterScrolling() {
+        Screen screen = new Screen(true, 6, 80);
+        drawFrame(screen, "header", "1. pay rent");
+        System.out.println("a reminder");
+        System.out.println("another reminder");
+        screen.countInputLine();
+        assertEquals(ESC + "H" + ESC + "2J" + "header\n1. pay rent\n", drawFrame(screen, "header", "1. pay rent"));
+    }
+
+    @Test
+    void framesArePrintedAsTheyAreWithoutAnsi() {
+        Screen screen = new Screen(false, 24, 80);
+        drawFrame(screen, "header");
+        assertEquals("header" + System.lineSeparator(), drawFrame(screen, "header"));
+    }
+}
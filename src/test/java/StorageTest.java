@@ -7,12 +7,14 @@ import Model_Classes.Task;
 import Operations.Storage;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class StorageTest {
     private static SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy HH:mm");
@@ -82,4 +84,18 @@ public class StorageTest {
     void convertForStorageLeave() throws RoomShareException {
         assertEquals("22/12/2019 18:00-24/12/2019 18:00", storage.convertForStorageLeave(ts2));
     }
+
+    @Test
+    void writeAndLoadReminder() throws Exception {
+        File file = File.createTempFile("reminders", ".txt");
+        file.deleteOnExit();
+        Date reminder = new SimpleDateFormat("dd/MM/yyyy HH:mm:ss").parse("22/12/2019 17:45:30");
+        ts.setReminder(reminder);
+        al.add(ts);
+        al.add(meetingTest2);
+        storage.writeFile(al, file.getPath());
+        ArrayList<Task> loaded = storage.loadFile(file.getPath());
+        assertEquals(reminder, loaded.get(0).getReminder());
+        assertNull(loaded.get(1).getReminder());
+    }
 }
@@ -7,6 +7,7 @@ import Enums.TimeUnit;
 import Model_Classes.Leave;
 import Model_Classes.Meeting;
 import Operations.TaskCreator;
+import Operations.TaskList;
 import javafx.util.Pair;
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +36,16 @@ public class TaskCreatorTest {
         }
     }
 
+    @Test
+    void extractField() {
+        assertEquals(taskCreator.extractField(input1, "#"), "meeting");
+        assertEquals(taskCreator.extractField(input1, "@"), "john");
+        assertEquals(taskCreator.extractField(input3, "&"), "24/12/2019 18:00");
+        assertEquals(taskCreator.extractField("add #meeting# -plan trip", "-"), "plan trip");
+        assertNull(taskCreator.extractField(input2, "*"));
+        assertNull(taskCreator.extractField("add #meeting# *", "*"));
+    }
+
     @Test
     void extractDate() {
         SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy HH:mm");
@@ -221,4 +232,12 @@ public class TaskCreatorTest {
             e.printStackTrace();
         }
     }
+
+    @Test
+    void updateAssigneeToEveryone() throws RoomShareException, DuplicateException, TimeClashException {
+        new TaskList(new ArrayList<>());
+        Meeting meeting = (Meeting) taskCreator.create("add #meeting -house meeting &24/12/2099 18:00 @john");
+        taskCreator.updateTask("@everyone", meeting);
+        assertEquals("everyone", meeting.getAssignee());
+    }
 }